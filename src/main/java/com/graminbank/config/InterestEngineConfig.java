@@ -0,0 +1,25 @@
+package com.graminbank.config;
+
+import com.graminbank.util.FixedPointInterestCalculator;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the interest engine used by the mappers and settlement.
+ * Set interest.fixed-point.enabled=false to fall back to the BigDecimal path.
+ */
+@Slf4j
+@Configuration
+public class InterestEngineConfig {
+
+    @Value("${interest.fixed-point.enabled:true}")
+    private boolean fixedPointEnabled;
+
+    @PostConstruct
+    public void configureInterestEngine() {
+        FixedPointInterestCalculator.setEnabled(fixedPointEnabled);
+        log.info("Interest engine: {}", fixedPointEnabled ? "fixed-point" : "BigDecimal");
+    }
+}
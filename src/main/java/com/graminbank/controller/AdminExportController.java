@@ -0,0 +1,37 @@
+package com.graminbank.controller;
+
+import com.graminbank.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/export")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR')")
+public class AdminExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/{type}")
+    public ResponseEntity<StreamingResponseBody> export(
+            @PathVariable String type,
+            @RequestParam(required = false) String year,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        exportService.checkType(type);
+
+        String filename = type + (year != null ? "-" + year : "") + ".csv" + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> exportService.writeCsv(type, year, status, gzip, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("text/csv"))
+                .body(body);
+    }
+}
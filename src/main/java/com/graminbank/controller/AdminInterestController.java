@@ -0,0 +1,26 @@
+package com.graminbank.controller;
+
+import com.graminbank.dto.request.BulkInterestRequest;
+import com.graminbank.dto.response.BulkInterestResponse;
+import com.graminbank.service.InterestService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/interest")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR')")
+public class AdminInterestController {
+
+    private final InterestService interestService;
+
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkInterestResponse> calculateBulk(@Valid @RequestBody BulkInterestRequest request) {
+        BulkInterestResponse response = interestService.calculateBulk(request);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,14 +1,37 @@
 package com.graminbank.controller;
 
 
+import com.graminbank.dto.response.BankTotalsRebuildResponse;
+import com.graminbank.dto.response.CashFlowResponse;
+import com.graminbank.dto.response.FinancialTrendResponse;
+import com.graminbank.dto.response.LoanAgeingResponse;
+import com.graminbank.dto.response.MemberBalanceVerifyResponse;
 import com.graminbank.dto.response.MemberStatementResponse;
+import com.graminbank.dto.response.MonthlyClosingResponse;
+import com.graminbank.dto.response.StatementBatchResponse;
 import com.graminbank.dto.response.YearlySettlementResponse;
+import com.graminbank.service.BankTotalsService;
+import com.graminbank.service.CashFlowService;
+import com.graminbank.service.LoanAgeingService;
+import com.graminbank.service.MemberBalanceService;
+import com.graminbank.service.MemberViewCacheService.CachedView;
+import com.graminbank.service.MonthlyClosingService;
 import com.graminbank.service.ReportService;
+import com.graminbank.service.StatementBatchService;
+import com.graminbank.service.TrendService;
+import com.graminbank.util.FinancialYearPeriod;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -19,13 +42,24 @@ import java.util.UUID;
 public class AdminReportController {
 
     private final ReportService reportService;
+    private final BankTotalsService bankTotalsService;
+    private final MonthlyClosingService monthlyClosingService;
+    private final StatementBatchService statementBatchService;
+    private final TrendService trendService;
+    private final CashFlowService cashFlowService;
+    private final LoanAgeingService loanAgeingService;
+    private final MemberBalanceService memberBalanceService;
 
     @GetMapping("/members/{memberId}/statement")
     public ResponseEntity<MemberStatementResponse> getMemberStatement(
             @PathVariable UUID memberId,
-            @RequestParam(required = false) String year) {
-        MemberStatementResponse response = reportService.getMemberStatement(memberId);
-        return ResponseEntity.ok(response);
+            @RequestParam(required = false) String year,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        CachedView<MemberStatementResponse> statement = reportService.getMemberStatement(memberId, year, page, size);
+        return ResponseEntity.ok()
+                .eTag(statement.getEtag())
+                .body(statement.getBody());
     }
 
     @GetMapping("/yearly-settlement")
@@ -34,4 +68,74 @@ public class AdminReportController {
         YearlySettlementResponse response = reportService.getYearlySettlement(year);
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/trend")
+    public ResponseEntity<FinancialTrendResponse> getTrend() {
+        return ResponseEntity.ok(trendService.getTrend());
+    }
+
+    @GetMapping("/cashflow")
+    public ResponseEntity<CashFlowResponse> getCashFlow(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "month") String bucket) {
+        return ResponseEntity.ok(cashFlowService.getCashFlow(from, to, bucket));
+    }
+
+    @GetMapping("/loan-ageing")
+    public ResponseEntity<LoanAgeingResponse> getLoanAgeing() {
+        return ResponseEntity.ok(loanAgeingService.getAgeing());
+    }
+
+    @PostMapping("/bank-totals/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BankTotalsRebuildResponse> rebuildBankTotals() {
+        BankTotalsRebuildResponse response = bankTotalsService.rebuild();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/member-balances/verify")
+    public ResponseEntity<MemberBalanceVerifyResponse> verifyMemberBalances() {
+        MemberBalanceVerifyResponse response = memberBalanceService.verify();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/member-balances/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MemberBalanceVerifyResponse> rebuildMemberBalances() {
+        MemberBalanceVerifyResponse response = memberBalanceService.rebuild();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/monthly-closings")
+    public ResponseEntity<List<MonthlyClosingResponse>> getMonthlyClosings(
+            @RequestParam(required = false) String year) {
+        String financialYear = year != null ? year : FinancialYearPeriod.current().getLabel();
+        return ResponseEntity.ok(monthlyClosingService.getClosings(financialYear));
+    }
+
+    @PostMapping("/monthly-closings")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<MonthlyClosingResponse> closeMonth(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        MonthlyClosingResponse response = monthlyClosingService.convertToResponse(monthlyClosingService.closeMonth(month));
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/statement-batches")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StatementBatchResponse> startStatementBatch(
+            @RequestParam(required = false) String year,
+            Authentication authentication) {
+        String financialYear = year != null ? year : FinancialYearPeriod.current().getLabel();
+        StatementBatchResponse response = statementBatchService.submit(financialYear, authentication.getName());
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQuery(null).path("/{id}").buildAndExpand(response.getId()).toUri();
+        return ResponseEntity.accepted().location(location).body(response);
+    }
+
+    @GetMapping("/statement-batches/{id}")
+    public ResponseEntity<StatementBatchResponse> getStatementBatch(@PathVariable UUID id) {
+        return ResponseEntity.ok(statementBatchService.getBatch(id));
+    }
+}
@@ -0,0 +1,52 @@
+package com.graminbank.controller;
+
+import com.graminbank.dto.response.SettlementJobResponse;
+import com.graminbank.dto.response.SettlementPreviewResponse;
+import com.graminbank.service.SettlementJobService;
+import com.graminbank.service.SettlementPreviewService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/admin/settlements")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@PreAuthorize("hasAnyRole('ADMIN', 'OPERATOR')")
+public class AdminSettlementController {
+
+    private final SettlementPreviewService settlementPreviewService;
+    private final SettlementJobService settlementJobService;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SettlementJobResponse> startSettlement(Authentication authentication) {
+        SettlementJobResponse response = settlementJobService.submit(authentication.getName());
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}").buildAndExpand(response.getId()).toUri();
+        return ResponseEntity.accepted().location(location).body(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SettlementJobResponse> getSettlementJob(@PathVariable UUID id) {
+        SettlementJobResponse response = settlementJobService.getJob(id);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/preview")
+    public ResponseEntity<SettlementPreviewResponse> preview(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate settlementDate,
+            @RequestParam(defaultValue = "false") boolean includeMembers) {
+        SettlementPreviewResponse response = settlementPreviewService.preview(
+                settlementDate != null ? settlementDate : LocalDate.now(), includeMembers);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -6,6 +6,7 @@ import com.graminbank.dto.response.MemberAuthResponse;
 import com.graminbank.dto.response.MemberDashboardResponse;
 import com.graminbank.service.MemberAuthService;
 import com.graminbank.service.MemberService;
+import com.graminbank.service.MemberViewCacheService.CachedView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -29,12 +30,15 @@ public class MemberAuthController {
         return ResponseEntity.ok(response);
     }
 
+    // A matching If-None-Match is answered with 304 by Spring because the ETag is set on the entity
     @GetMapping("/dashboard")
     public ResponseEntity<MemberDashboardResponse> getDashboard(Authentication authentication) {
         String username = authentication.getName();
         UUID memberId = UUID.fromString(username.replace("MEMBER_", ""));
-        MemberDashboardResponse response = memberAuthService.getMemberDashboard(memberId);
-        return ResponseEntity.ok(response);
+        CachedView<MemberDashboardResponse> dashboard = memberAuthService.getMemberDashboard(memberId);
+        return ResponseEntity.ok()
+                .eTag(dashboard.getEtag())
+                .body(dashboard.getBody());
     }
 
     @PutMapping("/change-pin")
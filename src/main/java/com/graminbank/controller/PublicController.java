@@ -1,12 +1,15 @@
 package com.graminbank.controller;
 
+import com.graminbank.dto.response.CursorPageResponse;
 import com.graminbank.dto.response.MaskedDepositResponse;
 import com.graminbank.dto.response.MaskedLoanResponse;
 import com.graminbank.dto.response.SummaryResponse;
 import com.graminbank.service.PublicService;
+import com.graminbank.service.SummaryCacheService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,10 +20,18 @@ import org.springframework.web.bind.annotation.*;
 public class PublicController {
 
     private final PublicService publicService;
+    private final SummaryCacheService summaryCacheService;
 
+    // A matching If-None-Match is answered with 304 by Spring because the ETag is set on the entity
     @GetMapping("/summary")
     public ResponseEntity<SummaryResponse> getSummary() {
-        return ResponseEntity.ok(publicService.getSummary());
+        SummaryCacheService.CachedSummary cached = summaryCacheService.get();
+        return ResponseEntity.ok()
+                .eTag(cached.getEtag())
+                .cacheControl(CacheControl.maxAge(summaryCacheService.getTtl())
+                        .cachePublic()
+                        .staleWhileRevalidate(summaryCacheService.getStaleWhileRevalidate()))
+                .body(cached.getSummary());
     }
 
     @GetMapping("/deposits")
@@ -33,6 +44,14 @@ public class PublicController {
         return ResponseEntity.ok(deposits);
     }
 
+    // Keyset variant: pass cursor= (empty) for the first page, then the returned nextCursor
+    @GetMapping(value = "/deposits", params = "cursor")
+    public ResponseEntity<CursorPageResponse<MaskedDepositResponse>> getDepositsAfter(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(publicService.getMaskedDeposits(cursor, size));
+    }
+
     @GetMapping("/loans")
     public ResponseEntity<Page<MaskedLoanResponse>> getLoans(
             @RequestParam(defaultValue = "0") int page,
@@ -42,4 +61,11 @@ public class PublicController {
         );
         return ResponseEntity.ok(loans);
     }
+
+    @GetMapping(value = "/loans", params = "cursor")
+    public ResponseEntity<CursorPageResponse<MaskedLoanResponse>> getLoansAfter(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(publicService.getMaskedLoans(cursor, size));
+    }
 }
\ No newline at end of file
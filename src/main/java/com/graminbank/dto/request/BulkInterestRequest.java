@@ -0,0 +1,43 @@
+package com.graminbank.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class BulkInterestRequest {
+
+    @NotNull(message = "As-of date is required")
+    private LocalDate asOfDate;
+
+    // DEPOSIT (2.5%) or LOAN (5%); used for rows without their own rate
+    @Pattern(regexp = "DEPOSIT|LOAN", message = "Type must be DEPOSIT or LOAN")
+    private String type = "LOAN";
+
+    @NotEmpty(message = "At least one row is required")
+    @Size(max = 50000, message = "At most 50000 rows per request")
+    @Valid
+    private List<Row> rows;
+
+    @Data
+    public static class Row {
+
+        @NotNull(message = "Principal is required")
+        @DecimalMin(value = "0.01", message = "Principal must be greater than 0")
+        @DecimalMax(value = "1000000000", message = "Principal cannot exceed 1000000000")
+        @Digits(integer = 10, fraction = 2, message = "Principal can have at most 2 decimals")
+        private BigDecimal principal;
+
+        @NotNull(message = "Start date is required")
+        private LocalDate startDate;
+
+        @DecimalMin(value = "0.1", message = "Interest rate must be at least 0.1%")
+        @DecimalMax(value = "100", message = "Interest rate cannot exceed 100%")
+        @Digits(integer = 3, fraction = 2, message = "Interest rate can have at most 2 decimals")
+        private BigDecimal interestRate;
+    }
+}
@@ -0,0 +1,13 @@
+package com.graminbank.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class BankTotalsRebuildResponse {
+    private boolean driftDetected;
+    private SummaryResponse before; // null when the row did not exist yet
+    private SummaryResponse after;
+    private LocalDateTime rebuiltAt;
+}
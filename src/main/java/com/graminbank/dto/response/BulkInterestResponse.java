@@ -0,0 +1,24 @@
+package com.graminbank.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class BulkInterestResponse {
+    private LocalDate asOfDate;
+    private List<Row> rows; // same order as the request
+    private BigDecimal totalPrincipal;
+    private BigDecimal totalInterest;
+
+    @Data
+    public static class Row {
+        private BigDecimal principal;
+        private BigDecimal interestRate;
+        private Integer months;
+        private BigDecimal interest;
+        private BigDecimal total;
+    }
+}
@@ -0,0 +1,37 @@
+package com.graminbank.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class CashFlowResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private String bucket; // day or month
+    private List<Bucket> buckets = new ArrayList<>(); // every bucket in the range, oldest first
+    private BigDecimal totalInflow = BigDecimal.ZERO;
+    private BigDecimal totalOutflow = BigDecimal.ZERO;
+    private BigDecimal netFlow = BigDecimal.ZERO;
+
+    @Data
+    public static class Bucket {
+        private LocalDate start;
+
+        // Money in
+        private BigDecimal depositsCollected;
+        private BigDecimal loanRepayments;
+        private BigDecimal totalInflow;
+
+        // Money out
+        private BigDecimal loansDisbursed;
+        private BigDecimal depositPrincipalReturned;
+        private BigDecimal depositInterestPaid;
+        private BigDecimal totalOutflow;
+
+        private BigDecimal netFlow;
+    }
+}
@@ -0,0 +1,16 @@
+package com.graminbank.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private String nextCursor; // null on the last page
+    private int size;
+}
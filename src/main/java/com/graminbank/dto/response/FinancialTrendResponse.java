@@ -0,0 +1,29 @@
+package com.graminbank.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class FinancialTrendResponse {
+    private LocalDateTime refreshedAt; // when the trend view was last refreshed
+    private List<YearTrend> years = new ArrayList<>(); // oldest first
+
+    @Data
+    public static class YearTrend {
+        private String financialYear;
+        private boolean settled;
+        private long depositCount;
+        private BigDecimal totalDeposits = BigDecimal.ZERO;
+        private BigDecimal activeDeposits = BigDecimal.ZERO;
+        private BigDecimal depositInterest = BigDecimal.ZERO; // paid to members on settled/returned deposits
+        private long loanCount;
+        private BigDecimal totalLoans = BigDecimal.ZERO;
+        private BigDecimal activeLoans = BigDecimal.ZERO;
+        private BigDecimal loanInterest = BigDecimal.ZERO; // received on closed/settled loans, as in the public summary
+        private BigDecimal netProfit = BigDecimal.ZERO;
+    }
+}
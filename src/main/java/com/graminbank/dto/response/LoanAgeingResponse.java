@@ -0,0 +1,31 @@
+package com.graminbank.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class LoanAgeingResponse {
+    private LocalDate asOf; // interest accrued up to this date
+    private List<Bucket> buckets = new ArrayList<>();
+    private long totalLoans;
+    private BigDecimal totalPrincipal = BigDecimal.ZERO;
+    private BigDecimal totalAccruedInterest = BigDecimal.ZERO;
+    private BigDecimal totalOutstanding = BigDecimal.ZERO;
+    private BigDecimal portfolioAtRisk = BigDecimal.ZERO; // % of outstanding in loans older than 30 days
+
+    @Data
+    public static class Bucket {
+        private String label;
+        private int minDays;
+        private Integer maxDays; // null for the open-ended bucket
+        private long loanCount;
+        private BigDecimal principal = BigDecimal.ZERO;
+        private BigDecimal paidAmount = BigDecimal.ZERO;
+        private BigDecimal accruedInterest = BigDecimal.ZERO;
+        private BigDecimal outstanding = BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,16 @@
+package com.graminbank.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class MemberBalanceVerifyResponse {
+    private boolean driftDetected;
+    private int driftCount;
+    private List<UUID> driftedMemberIds; // first 100
+    private boolean rebuilt;
+    private LocalDateTime checkedAt;
+}
@@ -9,8 +9,13 @@ import java.util.List;
 public class MemberStatementResponse {
     private String memberName;
     private String phone;
-    private List<DepositResponse> deposits;
-    private List<LoanResponse> loans;
+    private String financialYear; // null for all years
+    private int page;
+    private int size;
+    private List<DepositResponse> deposits; // one page
+    private List<LoanResponse> loans; // one page
+    private Long depositCount;
+    private Long loanCount;
     private BigDecimal totalDeposits;
     private BigDecimal totalLoans;
     private BigDecimal activeDepositsWithInterest;
@@ -0,0 +1,34 @@
+package com.graminbank.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+public class MonthlyClosingResponse {
+    private String financialYear;
+    private LocalDate closingMonth;
+    private LocalDateTime closedAt;
+
+    // Movements dated in the month
+    private BigDecimal depositsCollected;
+    private Long depositsCount;
+    private BigDecimal loansDisbursed;
+    private Long loansCount;
+    private BigDecimal loanRepayments;
+
+    // Financial year to date
+    private BigDecimal ytdDepositsCollected;
+    private BigDecimal ytdLoansDisbursed;
+    private BigDecimal ytdLoanRepayments;
+
+    // Active book and projected year-end interest at the close
+    private BigDecimal activeDeposits;
+    private Long activeDepositsCount;
+    private BigDecimal activeLoans;
+    private Long activeLoansCount;
+    private BigDecimal projectedDepositInterest;
+    private BigDecimal projectedLoanInterest;
+}
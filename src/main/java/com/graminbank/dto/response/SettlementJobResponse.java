@@ -0,0 +1,25 @@
+package com.graminbank.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class SettlementJobResponse {
+    private UUID id;
+    private String financialYear;
+    private String status;
+    private String phase;
+    private Long rowsTotal; // active deposits + loans when the job was queued
+    private Long rowsProcessed;
+    private BigDecimal rowsPerSecond;
+    private Long etaSeconds; // null until there is a rate to estimate from
+    private String errorMessage;
+    private String requestedBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime updatedAt;
+}
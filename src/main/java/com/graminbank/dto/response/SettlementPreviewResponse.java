@@ -0,0 +1,38 @@
+package com.graminbank.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+public class SettlementPreviewResponse {
+    private String financialYear;
+    private String nextFinancialYear;
+    private LocalDate settlementDate;
+
+    // What the FinancialYear row would record
+    private long depositCount;
+    private BigDecimal totalDeposits;
+    private BigDecimal totalDepositInterest;
+    private long loanCount;
+    private BigDecimal totalLoans;
+    private BigDecimal totalLoanInterest;
+    private BigDecimal totalCarriedForward; // principal of the next-year loans
+    private BigDecimal netBalance;
+
+    private List<MemberBreakdown> members; // only when requested
+
+    @Data
+    public static class MemberBreakdown {
+        private UUID memberId;
+        private String memberName;
+        private BigDecimal depositAmount = BigDecimal.ZERO;
+        private BigDecimal depositInterest = BigDecimal.ZERO;
+        private BigDecimal loanAmount = BigDecimal.ZERO;
+        private BigDecimal loanInterest = BigDecimal.ZERO;
+        private BigDecimal carriedForwardAmount = BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,23 @@
+package com.graminbank.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+public class StatementBatchResponse {
+    private UUID id;
+    private String financialYear;
+    private String status;
+    private String outputDirectory;
+    private Long membersTotal;
+    private Long membersProcessed;
+    private UUID lastMemberId; // resume marker
+    private String errorMessage;
+    private String requestedBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,35 @@
+package com.graminbank.event;
+
+import com.graminbank.service.LedgerDelta;
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Published by the deposit, loan and settlement services after every ledger write.
+ * Caches and derived tables listen for it to invalidate or refresh themselves.
+ * Bulk set-based writes publish it with no member ids; listeners must then treat
+ * every member as changed.
+ */
+@Getter
+public class LedgerChangedEvent {
+
+    private final Set<UUID> memberIds;
+    private final Set<String> financialYears;
+    private final boolean depositsChanged;
+    private final boolean loansChanged;
+
+    public LedgerChangedEvent(Set<UUID> memberIds, Set<String> financialYears,
+                              boolean depositsChanged, boolean loansChanged) {
+        this.memberIds = Set.copyOf(memberIds);
+        this.financialYears = Set.copyOf(financialYears);
+        this.depositsChanged = depositsChanged;
+        this.loansChanged = loansChanged;
+    }
+
+    public static LedgerChangedEvent of(LedgerDelta delta) {
+        return new LedgerChangedEvent(delta.getMemberIds(), delta.getFinancialYears(),
+                delta.isDepositsChanged(), delta.isLoansChanged());
+    }
+}
@@ -0,0 +1,55 @@
+package com.graminbank.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Interest accrued on an ACTIVE deposit or loan as of {@code accrualDate},
+ * written once a day by the accrual job. Keyed by the deposit/loan id.
+ */
+@Entity
+@Table(name = "accrual_snapshots", indexes = {
+        @Index(name = "idx_accrual_snapshots_accrual_date", columnList = "accrual_date")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccrualSnapshot {
+
+    public static final String DEPOSIT = "DEPOSIT";
+    public static final String LOAN = "LOAN";
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "entry_type", nullable = false, length = 10)
+    private String entryType;
+
+    @Column(name = "member_id", nullable = false)
+    private UUID memberId;
+
+    @Column(name = "accrual_date", nullable = false)
+    private LocalDate accrualDate;
+
+    @Column(name = "accrued_interest", precision = 12, scale = 2)
+    private BigDecimal accruedInterest = BigDecimal.ZERO;
+
+    @Column(name = "current_total", precision = 12, scale = 2)
+    private BigDecimal currentTotal = BigDecimal.ZERO;
+
+    // Loans only: current total minus paid and discount
+    @Column(name = "current_remaining", precision = 12, scale = 2)
+    private BigDecimal currentRemaining;
+
+    // updated_at of the source row when the snapshot was taken
+    @Column(name = "source_updated_at")
+    private LocalDateTime sourceUpdatedAt;
+}
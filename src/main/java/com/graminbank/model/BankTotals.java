@@ -0,0 +1,74 @@
+package com.graminbank.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Single-row running totals for the whole bank.
+ * Updated in the same transaction as every deposit/loan write so the
+ * public summary never has to scan the ledger.
+ */
+@Entity
+@Table(name = "bank_totals")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankTotals {
+
+    public static final Integer SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private Integer id = SINGLETON_ID;
+
+    // Cash inflows
+    @Column(name = "total_deposit_collected", precision = 15, scale = 2)
+    private BigDecimal totalDepositCollected = BigDecimal.ZERO;
+
+    @Column(name = "total_loan_repayments_received", precision = 15, scale = 2)
+    private BigDecimal totalLoanRepaymentsReceived = BigDecimal.ZERO;
+
+    @Column(name = "total_loan_repaid", precision = 15, scale = 2)
+    private BigDecimal totalLoanRepaid = BigDecimal.ZERO;
+
+    // Cash outflows
+    @Column(name = "total_loans_disbursed", precision = 15, scale = 2)
+    private BigDecimal totalLoansDisbursed = BigDecimal.ZERO;
+
+    @Column(name = "total_deposit_principal_returned", precision = 15, scale = 2)
+    private BigDecimal totalDepositPrincipalReturned = BigDecimal.ZERO;
+
+    @Column(name = "total_deposit_interest_paid", precision = 15, scale = 2)
+    private BigDecimal totalDepositInterestPaid = BigDecimal.ZERO;
+
+    // Profit
+    @Column(name = "total_loan_interest_received", precision = 15, scale = 2)
+    private BigDecimal totalLoanInterestReceived = BigDecimal.ZERO;
+
+    // Active book
+    @Column(name = "active_deposits", precision = 15, scale = 2)
+    private BigDecimal activeDeposits = BigDecimal.ZERO;
+
+    @Column(name = "active_deposits_count")
+    private Long activeDepositsCount = 0L;
+
+    @Column(name = "active_loans", precision = 15, scale = 2)
+    private BigDecimal activeLoans = BigDecimal.ZERO;
+
+    @Column(name = "active_loans_count")
+    private Long activeLoansCount = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
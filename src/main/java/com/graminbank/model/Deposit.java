@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "deposits")
+@Table(name = "deposits", indexes = {
+        @Index(name = "idx_deposits_deposit_date", columnList = "deposit_date"),
+        @Index(name = "idx_deposits_return_date", columnList = "return_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -66,7 +69,7 @@ public class Deposit {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
         if (financialYear == null) {
-            financialYear = com.graminbank.util.InterestCalculator.getCurrentFinancialYear();
+            financialYear = com.graminbank.util.FinancialYearPeriod.current().getLabel();
         }
     }
 
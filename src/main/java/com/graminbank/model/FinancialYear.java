@@ -23,7 +23,7 @@ public class FinancialYear {
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
-    @Column(name = "year", nullable = false, unique = true, length = 4)
+    @Column(name = "year", nullable = false, unique = true, length = 10)
     private String year;
 
     @Column(name = "start_date", nullable = false)
@@ -15,7 +15,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "loans")
+@Table(name = "loans", indexes = {
+        @Index(name = "idx_loans_loan_date", columnList = "loan_date"),
+        @Index(name = "idx_loans_status_loan_date", columnList = "status, loan_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -64,6 +67,10 @@ public class Loan {
     @Column(name = "remaining_amount", precision = 12, scale = 2)
     private BigDecimal remainingAmount = BigDecimal.ZERO;
 
+    // The loan this one replaced at year-end carry-forward; null for loans that were disbursed
+    @Column(name = "carried_forward_from")
+    private UUID carriedForwardFrom;
+
     @OneToMany(mappedBy = "loan", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
     private List<LoanPayment> payments = new ArrayList<>();
@@ -82,7 +89,7 @@ public class Loan {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
         if (financialYear == null) {
-            financialYear = com.graminbank.util.InterestCalculator.getCurrentFinancialYear();
+            financialYear = com.graminbank.util.FinancialYearPeriod.current().getLabel();
         }
         remainingAmount = loanAmount;
     }
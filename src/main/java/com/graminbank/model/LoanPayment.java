@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "loan_payments")
+@Table(name = "loan_payments", indexes = {
+        @Index(name = "idx_loan_payments_payment_date", columnList = "payment_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,78 @@
+package com.graminbank.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Running deposit and loan totals of one member, updated in the same transaction as
+ * every write to the member's deposits and loans, so dashboards and statements read
+ * them with a primary-key lookup instead of walking the member's history.
+ */
+@Entity
+@Table(name = "member_balances")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberBalance {
+
+    @Id
+    @Column(name = "member_id", updatable = false, nullable = false)
+    private UUID memberId;
+
+    // Deposits: lifetime, currently ACTIVE, and interest on the ones paid out
+    @Column(name = "total_deposited", precision = 15, scale = 2)
+    private BigDecimal totalDeposited = BigDecimal.ZERO;
+
+    @Column(name = "deposit_count")
+    private Long depositCount = 0L;
+
+    @Column(name = "active_deposits", precision = 15, scale = 2)
+    private BigDecimal activeDeposits = BigDecimal.ZERO;
+
+    @Column(name = "active_deposits_count")
+    private Long activeDepositsCount = 0L;
+
+    @Column(name = "deposit_interest_paid", precision = 15, scale = 2)
+    private BigDecimal depositInterestPaid = BigDecimal.ZERO;
+
+    // Loans: lifetime, currently ACTIVE, interest on the ones no longer active, repayments
+    @Column(name = "total_borrowed", precision = 15, scale = 2)
+    private BigDecimal totalBorrowed = BigDecimal.ZERO;
+
+    @Column(name = "loan_count")
+    private Long loanCount = 0L;
+
+    @Column(name = "active_loans", precision = 15, scale = 2)
+    private BigDecimal activeLoans = BigDecimal.ZERO;
+
+    @Column(name = "active_loans_count")
+    private Long activeLoansCount = 0L;
+
+    @Column(name = "loan_interest_paid", precision = 15, scale = 2)
+    private BigDecimal loanInterestPaid = BigDecimal.ZERO;
+
+    @Column(name = "total_paid", precision = 15, scale = 2)
+    private BigDecimal totalPaid = BigDecimal.ZERO;
+
+    @Column(name = "total_discount", precision = 15, scale = 2)
+    private BigDecimal totalDiscount = BigDecimal.ZERO;
+
+    // Bumped by every write touching the member; keys the dashboard/statement cache and their ETags
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version = 0L;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,88 @@
+package com.graminbank.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Frozen movements of one calendar month plus the running financial year totals
+ * and the projected year-end interest of the book as of the close.
+ */
+@Entity
+@Table(name = "monthly_closings", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_monthly_closings_month", columnNames = "closing_month")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyClosing {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "financial_year", nullable = false, length = 10)
+    private String financialYear;
+
+    // First day of the closed month
+    @Column(name = "closing_month", nullable = false)
+    private LocalDate closingMonth;
+
+    @Column(name = "closed_at", nullable = false)
+    private LocalDateTime closedAt;
+
+    // Movements dated in the month
+    @Column(name = "deposits_collected", precision = 15, scale = 2)
+    private BigDecimal depositsCollected = BigDecimal.ZERO;
+
+    @Column(name = "deposits_count")
+    private Long depositsCount = 0L;
+
+    @Column(name = "loans_disbursed", precision = 15, scale = 2)
+    private BigDecimal loansDisbursed = BigDecimal.ZERO;
+
+    @Column(name = "loans_count")
+    private Long loansCount = 0L;
+
+    @Column(name = "loan_repayments", precision = 15, scale = 2)
+    private BigDecimal loanRepayments = BigDecimal.ZERO;
+
+    // Running totals from the start of the financial year up to this month
+    @Column(name = "ytd_deposits_collected", precision = 15, scale = 2)
+    private BigDecimal ytdDepositsCollected = BigDecimal.ZERO;
+
+    @Column(name = "ytd_loans_disbursed", precision = 15, scale = 2)
+    private BigDecimal ytdLoansDisbursed = BigDecimal.ZERO;
+
+    @Column(name = "ytd_loan_repayments", precision = 15, scale = 2)
+    private BigDecimal ytdLoanRepayments = BigDecimal.ZERO;
+
+    // ACTIVE book of the financial year at the close
+    @Column(name = "active_deposits", precision = 15, scale = 2)
+    private BigDecimal activeDeposits = BigDecimal.ZERO;
+
+    @Column(name = "active_deposits_count")
+    private Long activeDepositsCount = 0L;
+
+    @Column(name = "active_loans", precision = 15, scale = 2)
+    private BigDecimal activeLoans = BigDecimal.ZERO;
+
+    @Column(name = "active_loans_count")
+    private Long activeLoansCount = 0L;
+
+    // Interest the active book would settle at on the financial year end date
+    @Column(name = "projected_deposit_interest", precision = 15, scale = 2)
+    private BigDecimal projectedDepositInterest = BigDecimal.ZERO;
+
+    @Column(name = "projected_loan_interest", precision = 15, scale = 2)
+    private BigDecimal projectedLoanInterest = BigDecimal.ZERO;
+}
@@ -0,0 +1,44 @@
+package com.graminbank.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A report of a settled financial year, stored as JSON. Such reports never change,
+ * so entries are kept for good and survive restarts.
+ */
+@Entity
+@Table(name = "report_cache", indexes = {
+        @Index(name = "idx_report_cache_financial_year", columnList = "financial_year")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportCacheEntry {
+
+    // report type, financial year and parameters
+    @Id
+    @Column(name = "cache_key", nullable = false, length = 255)
+    private String cacheKey;
+
+    @Column(name = "report_type", nullable = false, length = 50)
+    private String reportType;
+
+    @Column(name = "financial_year", nullable = false, length = 10)
+    private String financialYear;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
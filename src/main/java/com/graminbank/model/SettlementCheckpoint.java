@@ -0,0 +1,74 @@
+package com.graminbank.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the year-end settlement for one financial year. The running totals
+ * are advanced in the same transaction as each settled chunk, so a crashed run
+ * resumes with exactly the rows and totals that were committed.
+ */
+@Entity
+@Table(name = "settlement_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementCheckpoint {
+
+    public static final String PHASE_DEPOSITS = "DEPOSITS";
+    public static final String PHASE_LOANS = "LOANS";
+    public static final String PHASE_COMPLETED = "COMPLETED";
+
+    @Id
+    @Column(name = "financial_year", updatable = false, nullable = false, length = 10)
+    private String financialYear;
+
+    @Column(name = "phase", nullable = false, length = 20)
+    private String phase = PHASE_DEPOSITS;
+
+    @Column(name = "settlement_date", nullable = false)
+    private LocalDate settlementDate;
+
+    @Column(name = "deposits_settled")
+    private Long depositsSettled = 0L;
+
+    @Column(name = "total_deposit_amount", precision = 15, scale = 2)
+    private BigDecimal totalDepositAmount = BigDecimal.ZERO;
+
+    @Column(name = "total_deposit_interest", precision = 15, scale = 2)
+    private BigDecimal totalDepositInterest = BigDecimal.ZERO;
+
+    @Column(name = "loans_carried_forward")
+    private Long loansCarriedForward = 0L;
+
+    @Column(name = "total_loan_amount", precision = 15, scale = 2)
+    private BigDecimal totalLoanAmount = BigDecimal.ZERO;
+
+    @Column(name = "total_loan_interest", precision = 15, scale = 2)
+    private BigDecimal totalLoanInterest = BigDecimal.ZERO;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public boolean isCompleted() {
+        return PHASE_COMPLETED.equals(phase);
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
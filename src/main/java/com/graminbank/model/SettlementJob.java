@@ -0,0 +1,84 @@
+package com.graminbank.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One asynchronous run of the year-end settlement, with its progress.
+ */
+@Entity
+@Table(name = "settlement_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettlementJob {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "financial_year", nullable = false, length = 10)
+    private String financialYear;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = QUEUED;
+
+    // Phase of the settlement checkpoint (DEPOSITS, LOANS, COMPLETED)
+    @Column(name = "phase", length = 20)
+    private String phase;
+
+    @Column(name = "rows_total")
+    private Long rowsTotal = 0L;
+
+    @Column(name = "rows_processed")
+    private Long rowsProcessed = 0L;
+
+    @Column(name = "rows_per_second", precision = 12, scale = 2)
+    private BigDecimal rowsPerSecond = BigDecimal.ZERO;
+
+    @Column(name = "eta_seconds")
+    private Long etaSeconds;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "requested_by", length = 100)
+    private String requestedBy;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,80 @@
+package com.graminbank.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One run of the year-end statement batch. Members are processed in id order and
+ * {@code lastMemberId} is the resume marker: every member up to it has its file written.
+ */
+@Entity
+@Table(name = "statement_batches")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatementBatch {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "UUID", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "financial_year", nullable = false, length = 10)
+    private String financialYear;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status = QUEUED;
+
+    @Column(name = "output_directory", nullable = false, length = 500)
+    private String outputDirectory;
+
+    @Column(name = "members_total")
+    private Long membersTotal = 0L;
+
+    @Column(name = "members_processed")
+    private Long membersProcessed = 0L;
+
+    @Column(name = "last_member_id")
+    private UUID lastMemberId;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "requested_by", length = 100)
+    private String requestedBy;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
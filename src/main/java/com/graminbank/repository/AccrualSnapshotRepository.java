@@ -0,0 +1,23 @@
+package com.graminbank.repository;
+
+import com.graminbank.model.AccrualSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AccrualSnapshotRepository extends JpaRepository<AccrualSnapshot, UUID> {
+
+    List<AccrualSnapshot> findByIdInAndAccrualDate(Collection<UUID> ids, LocalDate accrualDate);
+
+    @Modifying
+    @Query("DELETE FROM AccrualSnapshot s WHERE s.accrualDate < :accrualDate")
+    int deleteOlderThan(@Param("accrualDate") LocalDate accrualDate);
+}
@@ -0,0 +1,75 @@
+package com.graminbank.repository;
+
+import com.graminbank.model.BankTotals;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+@Repository
+public interface BankTotalsRepository extends JpaRepository<BankTotals, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BankTotals b WHERE b.id = :id")
+    Optional<BankTotals> findByIdForUpdate(@Param("id") Integer id);
+
+    /**
+     * Inserts the row unless it already exists; 0 when another transaction seeded it first.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO bank_totals (id, total_deposit_collected, total_deposit_principal_returned, " +
+            "total_deposit_interest_paid, active_deposits, active_deposits_count, total_loan_repayments_received, " +
+            "total_loans_disbursed, total_loan_repaid, total_loan_interest_received, active_loans, " +
+            "active_loans_count, updated_at) " +
+            "VALUES (:id, :depositCollected, :depositPrincipalReturned, :depositInterestPaid, :activeDeposits, " +
+            ":activeDepositsCount, :loanRepaymentsReceived, :loansDisbursed, :loanRepaid, :loanInterestReceived, " +
+            ":activeLoans, :activeLoansCount, now()) " +
+            "ON CONFLICT (id) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") Integer id,
+                       @Param("depositCollected") BigDecimal depositCollected,
+                       @Param("depositPrincipalReturned") BigDecimal depositPrincipalReturned,
+                       @Param("depositInterestPaid") BigDecimal depositInterestPaid,
+                       @Param("activeDeposits") BigDecimal activeDeposits,
+                       @Param("activeDepositsCount") long activeDepositsCount,
+                       @Param("loanRepaymentsReceived") BigDecimal loanRepaymentsReceived,
+                       @Param("loansDisbursed") BigDecimal loansDisbursed,
+                       @Param("loanRepaid") BigDecimal loanRepaid,
+                       @Param("loanInterestReceived") BigDecimal loanInterestReceived,
+                       @Param("activeLoans") BigDecimal activeLoans,
+                       @Param("activeLoansCount") long activeLoansCount);
+
+    @Modifying
+    @Query("UPDATE BankTotals b SET " +
+            "b.totalDepositCollected = b.totalDepositCollected + :depositCollected, " +
+            "b.totalDepositPrincipalReturned = b.totalDepositPrincipalReturned + :depositPrincipalReturned, " +
+            "b.totalDepositInterestPaid = b.totalDepositInterestPaid + :depositInterestPaid, " +
+            "b.activeDeposits = b.activeDeposits + :activeDeposits, " +
+            "b.activeDepositsCount = b.activeDepositsCount + :activeDepositsCount, " +
+            "b.totalLoanRepaymentsReceived = b.totalLoanRepaymentsReceived + :loanRepaymentsReceived, " +
+            "b.totalLoansDisbursed = b.totalLoansDisbursed + :loansDisbursed, " +
+            "b.totalLoanRepaid = b.totalLoanRepaid + :loanRepaid, " +
+            "b.totalLoanInterestReceived = b.totalLoanInterestReceived + :loanInterestReceived, " +
+            "b.activeLoans = b.activeLoans + :activeLoans, " +
+            "b.activeLoansCount = b.activeLoansCount + :activeLoansCount, " +
+            "b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.id = :id")
+    int applyDelta(@Param("id") Integer id,
+                   @Param("depositCollected") BigDecimal depositCollected,
+                   @Param("depositPrincipalReturned") BigDecimal depositPrincipalReturned,
+                   @Param("depositInterestPaid") BigDecimal depositInterestPaid,
+                   @Param("activeDeposits") BigDecimal activeDeposits,
+                   @Param("activeDepositsCount") long activeDepositsCount,
+                   @Param("loanRepaymentsReceived") BigDecimal loanRepaymentsReceived,
+                   @Param("loansDisbursed") BigDecimal loansDisbursed,
+                   @Param("loanRepaid") BigDecimal loanRepaid,
+                   @Param("loanInterestReceived") BigDecimal loanInterestReceived,
+                   @Param("activeLoans") BigDecimal activeLoans,
+                   @Param("activeLoansCount") long activeLoansCount);
+}
@@ -1,16 +1,30 @@
 package com.graminbank.repository;
 
 import com.graminbank.model.Deposit;
+import com.graminbank.repository.projection.DepositAggregate;
+import com.graminbank.repository.projection.MaskedDepositRow;
+import com.graminbank.repository.projection.MovementTotals;
+import com.graminbank.repository.projection.SettlementTotals;
+import com.graminbank.util.InterestSql;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface DepositRepository extends JpaRepository<Deposit, UUID> {
@@ -19,6 +33,21 @@ public interface DepositRepository extends JpaRepository<Deposit, UUID> {
 
     List<Deposit> findByMemberId(UUID memberId);
 
+    @Query("SELECT d FROM Deposit d JOIN FETCH d.member m WHERE m.id = :memberId")
+    List<Deposit> findByMemberIdWithMember(@Param("memberId") UUID memberId);
+
+    List<Deposit> findByMemberId(UUID memberId, Pageable pageable);
+
+    List<Deposit> findByMemberIdAndFinancialYear(UUID memberId, String financialYear, Pageable pageable);
+
+    /**
+     * All deposits of a block of members for one year, for the statement batch.
+     */
+    @Query("SELECT d FROM Deposit d JOIN FETCH d.member m " +
+            "WHERE m.id IN :memberIds AND d.financialYear = :financialYear ORDER BY d.depositDate, d.id")
+    List<Deposit> findByMemberIdInAndFinancialYear(@Param("memberIds") Collection<UUID> memberIds,
+                                                   @Param("financialYear") String financialYear);
+
     Page<Deposit> findByStatusOrderByDepositDateDesc(String status, Pageable pageable);
 
     Page<Deposit> findAllByOrderByDepositDateDesc(Pageable pageable);
@@ -29,5 +58,110 @@ public interface DepositRepository extends JpaRepository<Deposit, UUID> {
     @Query("SELECT COUNT(d) FROM Deposit d WHERE d.status = :status")
     Long countByStatus(@Param("status") String status);
 
+    @Query("SELECT d.status AS status, d.financialYear AS financialYear, " +
+            "COALESCE(SUM(d.amount), 0) AS totalAmount, " +
+            "COALESCE(SUM(d.interestEarned), 0) AS totalInterestEarned, " +
+            "COALESCE(SUM(d.totalAmount), 0) AS totalPayout, " +
+            "COUNT(d) AS rowCount " +
+            "FROM Deposit d GROUP BY d.status, d.financialYear")
+    List<DepositAggregate> aggregateByStatusAndFinancialYear();
+
+    @Query("SELECT d.status AS status, d.financialYear AS financialYear, " +
+            "COALESCE(SUM(d.amount), 0) AS totalAmount, " +
+            "COALESCE(SUM(d.interestEarned), 0) AS totalInterestEarned, " +
+            "COALESCE(SUM(d.totalAmount), 0) AS totalPayout, " +
+            "COUNT(d) AS rowCount " +
+            "FROM Deposit d WHERE d.financialYear = :financialYear GROUP BY d.status, d.financialYear")
+    List<DepositAggregate> aggregateByStatusForFinancialYear(@Param("financialYear") String financialYear);
+
     List<Deposit> findByMemberIdOrderByDepositDateDesc(UUID memberId);
+
+    /**
+     * Next chunk of rows with {@code status} in id order, starting after {@code afterId}.
+     */
+    @Query("SELECT d FROM Deposit d WHERE d.status = :status AND d.id > :afterId ORDER BY d.id")
+    List<Deposit> findChunkByStatusAfter(@Param("status") String status, @Param("afterId") UUID afterId,
+                                         Pageable pageable);
+
+    Slice<Deposit> findSliceByStatusAndFinancialYear(String status, String financialYear, Pageable pageable);
+
+    long countByStatusAndFinancialYear(String status, String financialYear);
+
+    // Interest the ACTIVE rows of a year would settle at on settlementDate
+    @Query(value = "SELECT COALESCE(SUM(" + InterestSql.DEPOSIT_INTEREST + "), 0) FROM deposits d " +
+            "WHERE d.status = 'ACTIVE' AND d.financial_year = :financialYear",
+            nativeQuery = true)
+    BigDecimal sumActiveDepositInterest(@Param("financialYear") String financialYear,
+                                        @Param("settlementDate") LocalDate settlementDate);
+
+    @Query("SELECT COALESCE(SUM(d.amount), 0) AS totalAmount, COUNT(d) AS rowCount " +
+            "FROM Deposit d WHERE d.depositDate BETWEEN :from AND :to")
+    MovementTotals sumDepositedBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Server-side cursor over the rows of a status and year, with their member. Must be consumed
+     * inside a (read-only) transaction and closed; callers detach rows as they go.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT d FROM Deposit d JOIN FETCH d.member WHERE d.status = :status AND d.financialYear = :financialYear")
+    Stream<Deposit> streamByStatusAndFinancialYear(@Param("status") String status, @Param("financialYear") String financialYear);
+
+    /**
+     * Next chunk of ACTIVE rows of the year whose member hashes into {@code partition} of {@code partitions}.
+     * Every row of a member lands in the same partition, so parallel settlement workers never share a member.
+     */
+    @Query(value = "SELECT * FROM deposits d WHERE d.status = 'ACTIVE' AND d.financial_year = :financialYear " +
+            "AND ((hashtext(CAST(d.member_id AS text)) % :partitions) + :partitions) % :partitions = :partition " +
+            "ORDER BY d.id LIMIT :limit",
+            nativeQuery = true)
+    List<Deposit> findActivePartitionChunk(@Param("financialYear") String financialYear,
+                                           @Param("partition") int partition,
+                                           @Param("partitions") int partitions,
+                                           @Param("limit") int limit);
+
+    /**
+     * Settles every ACTIVE deposit of the year in one statement and returns the totals of the settled rows
+     * and their members.
+     */
+    @Query(value = "WITH settled AS (" +
+            "UPDATE deposits d SET " +
+            "interest_earned = " + InterestSql.DEPOSIT_INTEREST + ", " +
+            "total_amount = d.amount + " + InterestSql.DEPOSIT_INTEREST + ", " +
+            "status = 'SETTLED', " +
+            "return_date = :settlementDate, " +
+            "updated_at = now() " +
+            "WHERE d.status = 'ACTIVE' AND d.financial_year = :financialYear " +
+            "RETURNING d.member_id, d.amount, d.interest_earned) " +
+            "SELECT COUNT(*) AS \"rowCount\", " +
+            "COALESCE(SUM(amount), 0) AS \"totalAmount\", " +
+            "COALESCE(SUM(interest_earned), 0) AS \"totalInterest\", " +
+            "0 AS \"carriedAmount\", " +
+            "COALESCE(ARRAY_AGG(DISTINCT member_id), CAST('{}' AS uuid[])) AS \"memberIds\" " +
+            "FROM settled",
+            nativeQuery = true)
+    SettlementTotals settleActiveForFinancialYear(@Param("financialYear") String financialYear,
+                                                  @Param("settlementDate") LocalDate settlementDate);
+
+    @Query(value = "SELECT d.id AS id, d.amount AS amount, d.depositDate AS depositDate, d.status AS status, " +
+            "m.id AS memberId, m.firstName AS firstName, m.lastName AS lastName " +
+            "FROM Deposit d JOIN d.member m ORDER BY d.depositDate DESC, d.id DESC",
+            countQuery = "SELECT COUNT(d) FROM Deposit d")
+    Page<MaskedDepositRow> findMaskedRows(Pageable pageable);
+
+    @Query("SELECT d.id AS id, d.amount AS amount, d.depositDate AS depositDate, d.status AS status, " +
+            "m.id AS memberId, m.firstName AS firstName, m.lastName AS lastName " +
+            "FROM Deposit d JOIN d.member m ORDER BY d.depositDate DESC, d.id DESC")
+    List<MaskedDepositRow> findMaskedRowsFirst(Pageable limit);
+
+    @Query("SELECT d.id AS id, d.amount AS amount, d.depositDate AS depositDate, d.status AS status, " +
+            "m.id AS memberId, m.firstName AS firstName, m.lastName AS lastName " +
+            "FROM Deposit d JOIN d.member m " +
+            "WHERE d.depositDate < :afterDate OR (d.depositDate = :afterDate AND d.id < :afterId) " +
+            "ORDER BY d.depositDate DESC, d.id DESC")
+    List<MaskedDepositRow> findMaskedRowsAfter(@Param("afterDate") LocalDate afterDate,
+                                               @Param("afterId") UUID afterId,
+                                               Pageable limit);
 }
\ No newline at end of file
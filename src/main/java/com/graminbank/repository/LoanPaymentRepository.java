@@ -2,8 +2,12 @@ package com.graminbank.repository;
 
 import com.graminbank.model.LoanPayment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,4 +17,7 @@ public interface LoanPaymentRepository extends JpaRepository<LoanPayment, UUID>
     List<LoanPayment> findByLoanIdOrderByPaymentDateDesc(UUID loanId);
 
     List<LoanPayment> findByLoanId(UUID loanId);
+
+    @Query("SELECT COALESCE(SUM(p.paymentAmount), 0) FROM LoanPayment p WHERE p.paymentDate BETWEEN :from AND :to")
+    BigDecimal sumPaymentsBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
\ No newline at end of file
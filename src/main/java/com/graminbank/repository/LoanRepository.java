@@ -2,16 +2,31 @@ package com.graminbank.repository;
 
 import com.graminbank.model.Deposit;
 import com.graminbank.model.Loan;
+import com.graminbank.repository.projection.LoanAgeingBucket;
+import com.graminbank.repository.projection.LoanAggregate;
+import com.graminbank.repository.projection.MaskedLoanRow;
+import com.graminbank.repository.projection.MovementTotals;
+import com.graminbank.repository.projection.SettlementTotals;
+import com.graminbank.util.InterestSql;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface LoanRepository extends JpaRepository<Loan, UUID> {
@@ -20,6 +35,21 @@ public interface LoanRepository extends JpaRepository<Loan, UUID> {
 
     List<Loan> findByMemberId(UUID memberId);
 
+    @Query("SELECT l FROM Loan l JOIN FETCH l.member m WHERE m.id = :memberId")
+    List<Loan> findByMemberIdWithMember(@Param("memberId") UUID memberId);
+
+    List<Loan> findByMemberId(UUID memberId, Pageable pageable);
+
+    List<Loan> findByMemberIdAndFinancialYear(UUID memberId, String financialYear, Pageable pageable);
+
+    /**
+     * All loans of a block of members for one year, for the statement batch.
+     */
+    @Query("SELECT l FROM Loan l JOIN FETCH l.member m " +
+            "WHERE m.id IN :memberIds AND l.financialYear = :financialYear ORDER BY l.loanDate, l.id")
+    List<Loan> findByMemberIdInAndFinancialYear(@Param("memberIds") Collection<UUID> memberIds,
+                                                @Param("financialYear") String financialYear);
+
     Page<Loan> findByStatus(String status, Pageable pageable);
 
     List<Loan> findByStatus(String status);
@@ -32,6 +62,142 @@ public interface LoanRepository extends JpaRepository<Loan, UUID> {
     @Query("SELECT COUNT(l) FROM Loan l WHERE l.status = :status")
     Long countByStatus(@Param("status") String status);
 
+    @Query("SELECT l.status AS status, l.financialYear AS financialYear, " +
+            "COALESCE(SUM(l.loanAmount), 0) AS totalLoanAmount, " +
+            "COALESCE(SUM(l.interestAmount), 0) AS totalInterestAmount, " +
+            "COALESCE(SUM(l.totalRepayment), 0) AS totalRepayment, " +
+            "COALESCE(SUM(l.paidAmount), 0) AS totalPaidAmount, " +
+            "COALESCE(SUM(l.discountAmount), 0) AS totalDiscountAmount, " +
+            "COUNT(l) AS rowCount " +
+            "FROM Loan l GROUP BY l.status, l.financialYear")
+    List<LoanAggregate> aggregateByStatusAndFinancialYear();
+
+    @Query("SELECT l.status AS status, l.financialYear AS financialYear, " +
+            "COALESCE(SUM(l.loanAmount), 0) AS totalLoanAmount, " +
+            "COALESCE(SUM(l.interestAmount), 0) AS totalInterestAmount, " +
+            "COALESCE(SUM(l.totalRepayment), 0) AS totalRepayment, " +
+            "COALESCE(SUM(l.paidAmount), 0) AS totalPaidAmount, " +
+            "COALESCE(SUM(l.discountAmount), 0) AS totalDiscountAmount, " +
+            "COUNT(l) AS rowCount " +
+            "FROM Loan l WHERE l.financialYear = :financialYear GROUP BY l.status, l.financialYear")
+    List<LoanAggregate> aggregateByStatusForFinancialYear(@Param("financialYear") String financialYear);
+
     List<Loan> findByMemberIdOrderByLoanDateDesc(UUID memberId);
+
+    /**
+     * Next chunk of rows with {@code status} in id order, starting after {@code afterId}.
+     */
+    @Query("SELECT l FROM Loan l WHERE l.status = :status AND l.id > :afterId ORDER BY l.id")
+    List<Loan> findChunkByStatusAfter(@Param("status") String status, @Param("afterId") UUID afterId,
+                                      Pageable pageable);
+
+    Slice<Loan> findSliceByStatusAndFinancialYear(String status, String financialYear, Pageable pageable);
+
+    long countByStatusAndFinancialYear(String status, String financialYear);
+
+    // Interest the ACTIVE rows of a year would settle at on settlementDate
+    @Query(value = "SELECT COALESCE(SUM(" + InterestSql.LOAN_INTEREST + "), 0) FROM loans l " +
+            "WHERE l.status = 'ACTIVE' AND l.financial_year = :financialYear",
+            nativeQuery = true)
+    BigDecimal sumActiveLoanInterest(@Param("financialYear") String financialYear,
+                                     @Param("settlementDate") LocalDate settlementDate);
+
+    // Loans created by carry-forward replace an old loan; no money is disbursed
+    @Query("SELECT COALESCE(SUM(l.loanAmount), 0) AS totalAmount, COUNT(l) AS rowCount " +
+            "FROM Loan l WHERE l.loanDate BETWEEN :from AND :to AND l.carriedForwardFrom IS NULL")
+    MovementTotals sumDisbursedBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Server-side cursor over the rows of a status and year, with their member. Must be consumed
+     * inside a (read-only) transaction and closed; callers detach rows as they go.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM Loan l JOIN FETCH l.member WHERE l.status = :status AND l.financialYear = :financialYear")
+    Stream<Loan> streamByStatusAndFinancialYear(@Param("status") String status, @Param("financialYear") String financialYear);
+
+    /**
+     * Next chunk of ACTIVE rows of the year whose member hashes into {@code partition} of {@code partitions}.
+     * Every row of a member lands in the same partition, so parallel settlement workers never share a member.
+     */
+    @Query(value = "SELECT * FROM loans l WHERE l.status = 'ACTIVE' AND l.financial_year = :financialYear " +
+            "AND ((hashtext(CAST(l.member_id AS text)) % :partitions) + :partitions) % :partitions = :partition " +
+            "ORDER BY l.id LIMIT :limit",
+            nativeQuery = true)
+    List<Loan> findActivePartitionChunk(@Param("financialYear") String financialYear,
+                                        @Param("partition") int partition,
+                                        @Param("partitions") int partitions,
+                                        @Param("limit") int limit);
+
+    /**
+     * Marks every ACTIVE loan of the year CARRIED_FORWARD and inserts its next-year loan
+     * (principal + interest - paid) in one statement, returning the totals of both sides and the members.
+     */
+    @Query(value = "WITH carried AS (" +
+            "UPDATE loans l SET " +
+            "interest_amount = " + InterestSql.LOAN_INTEREST + ", " +
+            "total_repayment = l.loan_amount + " + InterestSql.LOAN_INTEREST + ", " +
+            "status = 'CARRIED_FORWARD', " +
+            "return_date = :settlementDate, " +
+            "updated_at = now() " +
+            "WHERE l.status = 'ACTIVE' AND l.financial_year = :financialYear " +
+            "RETURNING l.id, l.member_id, l.loan_amount, l.interest_amount, l.total_repayment, l.paid_amount), " +
+            "created AS (" +
+            "INSERT INTO loans (id, member_id, loan_amount, loan_date, interest_rate, financial_year, status, " +
+            "interest_amount, total_repayment, discount_amount, paid_amount, remaining_amount, carried_forward_from, " +
+            "created_at, updated_at) " +
+            "SELECT gen_random_uuid(), c.member_id, c.total_repayment - c.paid_amount, " +
+            "CAST(:settlementDate AS date) + 1, 5.0, :nextFinancialYear, 'ACTIVE', " +
+            "0, 0, 0, 0, c.total_repayment - c.paid_amount, c.id, now(), now() " +
+            "FROM carried c " +
+            "RETURNING loan_amount) " +
+            "SELECT (SELECT COUNT(*) FROM carried) AS \"rowCount\", " +
+            "(SELECT COALESCE(SUM(loan_amount), 0) FROM carried) AS \"totalAmount\", " +
+            "(SELECT COALESCE(SUM(interest_amount), 0) FROM carried) AS \"totalInterest\", " +
+            "(SELECT COALESCE(SUM(loan_amount), 0) FROM created) AS \"carriedAmount\", " +
+            "(SELECT COALESCE(ARRAY_AGG(DISTINCT member_id), CAST('{}' AS uuid[])) FROM carried) AS \"memberIds\"",
+            nativeQuery = true)
+    SettlementTotals carryForwardActiveForFinancialYear(@Param("financialYear") String financialYear,
+                                                       @Param("nextFinancialYear") String nextFinancialYear,
+                                                       @Param("settlementDate") LocalDate settlementDate);
+
+    /**
+     * Active loans bucketed by days since loan_date in one pass, with interest accrued up to
+     * {@code settlementDate}. Outstanding is principal plus interest less payments and discounts.
+     */
+    @Query(value = "SELECT a.bucket AS \"bucket\", COUNT(*) AS \"rowCount\", " +
+            "COALESCE(SUM(a.loan_amount), 0) AS \"principal\", " +
+            "COALESCE(SUM(a.paid_amount), 0) AS \"paidAmount\", " +
+            "COALESCE(SUM(a.interest), 0) AS \"accruedInterest\", " +
+            "COALESCE(SUM(a.loan_amount + a.interest - a.paid_amount - a.discount_amount), 0) AS \"outstanding\" " +
+            "FROM (SELECT width_bucket(CAST(:settlementDate AS date) - l.loan_date, ARRAY[31, 91, 181]) AS bucket, " +
+            "l.loan_amount, COALESCE(l.paid_amount, 0) AS paid_amount, " +
+            "COALESCE(l.discount_amount, 0) AS discount_amount, " + InterestSql.LOAN_INTEREST + " AS interest " +
+            "FROM loans l WHERE l.status = 'ACTIVE') a " +
+            "GROUP BY a.bucket ORDER BY a.bucket",
+            nativeQuery = true)
+    List<LoanAgeingBucket> getActiveLoanAgeing(@Param("settlementDate") LocalDate settlementDate);
+
+    @Query(value = "SELECT l.id AS id, l.loanAmount AS loanAmount, l.loanDate AS loanDate, l.status AS status, " +
+            "m.id AS memberId, m.firstName AS firstName, m.lastName AS lastName " +
+            "FROM Loan l JOIN l.member m ORDER BY l.loanDate DESC, l.id DESC",
+            countQuery = "SELECT COUNT(l) FROM Loan l")
+    Page<MaskedLoanRow> findMaskedRows(Pageable pageable);
+
+    @Query("SELECT l.id AS id, l.loanAmount AS loanAmount, l.loanDate AS loanDate, l.status AS status, " +
+            "m.id AS memberId, m.firstName AS firstName, m.lastName AS lastName " +
+            "FROM Loan l JOIN l.member m ORDER BY l.loanDate DESC, l.id DESC")
+    List<MaskedLoanRow> findMaskedRowsFirst(Pageable limit);
+
+    @Query("SELECT l.id AS id, l.loanAmount AS loanAmount, l.loanDate AS loanDate, l.status AS status, " +
+            "m.id AS memberId, m.firstName AS firstName, m.lastName AS lastName " +
+            "FROM Loan l JOIN l.member m " +
+            "WHERE l.loanDate < :afterDate OR (l.loanDate = :afterDate AND l.id < :afterId) " +
+            "ORDER BY l.loanDate DESC, l.id DESC")
+    List<MaskedLoanRow> findMaskedRowsAfter(@Param("afterDate") LocalDate afterDate,
+                                            @Param("afterId") UUID afterId,
+                                            Pageable limit);
     Page<Loan> findByStatusOrderByLoanDateDesc(String status, Pageable pageable);
 }
\ No newline at end of file
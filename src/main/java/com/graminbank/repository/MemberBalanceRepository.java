@@ -0,0 +1,125 @@
+package com.graminbank.repository;
+
+import com.graminbank.model.MemberBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MemberBalanceRepository extends JpaRepository<MemberBalance, UUID> {
+
+    /**
+     * Balances recomputed from the ledger for every member; append a WHERE on m.id for one.
+     * Column order matches member_balances.
+     */
+    String FRESH_BALANCES = "SELECT m.id AS member_id, " +
+            "COALESCE(d.total_deposited, 0) AS total_deposited, COALESCE(d.deposit_count, 0) AS deposit_count, " +
+            "COALESCE(d.active_deposits, 0) AS active_deposits, COALESCE(d.active_deposits_count, 0) AS active_deposits_count, " +
+            "COALESCE(d.deposit_interest_paid, 0) AS deposit_interest_paid, " +
+            "COALESCE(l.total_borrowed, 0) AS total_borrowed, COALESCE(l.loan_count, 0) AS loan_count, " +
+            "COALESCE(l.active_loans, 0) AS active_loans, COALESCE(l.active_loans_count, 0) AS active_loans_count, " +
+            "COALESCE(l.loan_interest_paid, 0) AS loan_interest_paid, " +
+            "COALESCE(l.total_paid, 0) AS total_paid, COALESCE(l.total_discount, 0) AS total_discount " +
+            "FROM members m " +
+            "LEFT JOIN (SELECT member_id, SUM(amount) AS total_deposited, COUNT(*) AS deposit_count, " +
+            "SUM(CASE WHEN status = 'ACTIVE' THEN amount ELSE 0 END) AS active_deposits, " +
+            "SUM(CASE WHEN status = 'ACTIVE' THEN 1 ELSE 0 END) AS active_deposits_count, " +
+            "SUM(CASE WHEN status <> 'ACTIVE' THEN COALESCE(interest_earned, 0) ELSE 0 END) AS deposit_interest_paid " +
+            "FROM deposits GROUP BY member_id) d ON d.member_id = m.id " +
+            "LEFT JOIN (SELECT member_id, SUM(loan_amount) AS total_borrowed, COUNT(*) AS loan_count, " +
+            "SUM(CASE WHEN status = 'ACTIVE' THEN loan_amount ELSE 0 END) AS active_loans, " +
+            "SUM(CASE WHEN status = 'ACTIVE' THEN 1 ELSE 0 END) AS active_loans_count, " +
+            "SUM(CASE WHEN status <> 'ACTIVE' THEN COALESCE(interest_amount, 0) ELSE 0 END) AS loan_interest_paid, " +
+            "SUM(COALESCE(paid_amount, 0)) AS total_paid, SUM(COALESCE(discount_amount, 0)) AS total_discount " +
+            "FROM loans GROUP BY member_id) l ON l.member_id = m.id";
+
+    String INSERT_BALANCES = "INSERT INTO member_balances (member_id, total_deposited, deposit_count, active_deposits, " +
+            "active_deposits_count, deposit_interest_paid, total_borrowed, loan_count, active_loans, " +
+            "active_loans_count, loan_interest_paid, total_paid, total_discount, updated_at) ";
+
+    String UPSERT_SET = "total_deposited = EXCLUDED.total_deposited, deposit_count = EXCLUDED.deposit_count, " +
+            "active_deposits = EXCLUDED.active_deposits, active_deposits_count = EXCLUDED.active_deposits_count, " +
+            "deposit_interest_paid = EXCLUDED.deposit_interest_paid, total_borrowed = EXCLUDED.total_borrowed, " +
+            "loan_count = EXCLUDED.loan_count, active_loans = EXCLUDED.active_loans, " +
+            "active_loans_count = EXCLUDED.active_loans_count, loan_interest_paid = EXCLUDED.loan_interest_paid, " +
+            "total_paid = EXCLUDED.total_paid, total_discount = EXCLUDED.total_discount, " +
+            "version = member_balances.version + 1, updated_at = now()";
+
+    @Modifying
+    @Query("UPDATE MemberBalance b SET " +
+            "b.totalDeposited = b.totalDeposited + :totalDeposited, " +
+            "b.depositCount = b.depositCount + :depositCount, " +
+            "b.activeDeposits = b.activeDeposits + :activeDeposits, " +
+            "b.activeDepositsCount = b.activeDepositsCount + :activeDepositsCount, " +
+            "b.depositInterestPaid = b.depositInterestPaid + :depositInterestPaid, " +
+            "b.totalBorrowed = b.totalBorrowed + :totalBorrowed, " +
+            "b.loanCount = b.loanCount + :loanCount, " +
+            "b.activeLoans = b.activeLoans + :activeLoans, " +
+            "b.activeLoansCount = b.activeLoansCount + :activeLoansCount, " +
+            "b.loanInterestPaid = b.loanInterestPaid + :loanInterestPaid, " +
+            "b.totalPaid = b.totalPaid + :totalPaid, " +
+            "b.totalDiscount = b.totalDiscount + :totalDiscount, " +
+            "b.version = b.version + 1, " +
+            "b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.memberId = :memberId")
+    int applyDelta(@Param("memberId") UUID memberId,
+                   @Param("totalDeposited") BigDecimal totalDeposited,
+                   @Param("depositCount") long depositCount,
+                   @Param("activeDeposits") BigDecimal activeDeposits,
+                   @Param("activeDepositsCount") long activeDepositsCount,
+                   @Param("depositInterestPaid") BigDecimal depositInterestPaid,
+                   @Param("totalBorrowed") BigDecimal totalBorrowed,
+                   @Param("loanCount") long loanCount,
+                   @Param("activeLoans") BigDecimal activeLoans,
+                   @Param("activeLoansCount") long activeLoansCount,
+                   @Param("loanInterestPaid") BigDecimal loanInterestPaid,
+                   @Param("totalPaid") BigDecimal totalPaid,
+                   @Param("totalDiscount") BigDecimal totalDiscount);
+
+    @Modifying
+    @Query("UPDATE MemberBalance b SET b.version = b.version + 1, b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.memberId = :memberId")
+    int bumpVersion(@Param("memberId") UUID memberId);
+
+    /**
+     * Overwrites every member's balance with {@link #FRESH_BALANCES}, inserting missing rows.
+     */
+    @Modifying
+    @Query(value = INSERT_BALANCES + "SELECT f.*, now() FROM (" + FRESH_BALANCES + ") f " +
+            "ON CONFLICT (member_id) DO UPDATE SET " + UPSERT_SET, nativeQuery = true)
+    int rebuildAll();
+
+    @Modifying
+    @Query(value = INSERT_BALANCES + "SELECT f.*, now() FROM (" + FRESH_BALANCES + " WHERE m.id = :memberId) f " +
+            "ON CONFLICT (member_id) DO UPDATE SET " + UPSERT_SET, nativeQuery = true)
+    int rebuild(@Param("memberId") UUID memberId);
+
+    /**
+     * {@link #rebuild(UUID)} for many members in one statement.
+     */
+    @Modifying
+    @Query(value = INSERT_BALANCES + "SELECT f.*, now() FROM (" + FRESH_BALANCES + " WHERE m.id = ANY(:memberIds)) f " +
+            "ON CONFLICT (member_id) DO UPDATE SET " + UPSERT_SET, nativeQuery = true)
+    int rebuildMembers(@Param("memberIds") UUID[] memberIds);
+
+    /**
+     * Members whose stored balance is missing or differs from {@link #FRESH_BALANCES}.
+     */
+    @Query(value = "SELECT f.member_id FROM (" + FRESH_BALANCES + ") f " +
+            "LEFT JOIN member_balances b ON b.member_id = f.member_id " +
+            "WHERE b.member_id IS NULL OR (b.total_deposited, b.deposit_count, b.active_deposits, " +
+            "b.active_deposits_count, b.deposit_interest_paid, b.total_borrowed, b.loan_count, b.active_loans, " +
+            "b.active_loans_count, b.loan_interest_paid, b.total_paid, b.total_discount) IS DISTINCT FROM " +
+            "(f.total_deposited, f.deposit_count, f.active_deposits, f.active_deposits_count, " +
+            "f.deposit_interest_paid, f.total_borrowed, f.loan_count, f.active_loans, f.active_loans_count, " +
+            "f.loan_interest_paid, f.total_paid, f.total_discount) " +
+            "ORDER BY f.member_id",
+            nativeQuery = true)
+    List<UUID> findDriftedMemberIds();
+}
@@ -2,11 +2,15 @@ package com.graminbank.repository;
 
 
 import com.graminbank.model.Member;
+import com.graminbank.repository.projection.MemberStatementTotals;
+import com.graminbank.util.InterestSql;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +21,14 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
 
     List<Member> findByIsActiveTrue();
 
+    long countByIsActiveTrue();
+
+    /**
+     * Next block of active members in id order, starting after {@code afterId}.
+     */
+    @Query("SELECT m FROM Member m WHERE m.isActive = true AND m.id > :afterId ORDER BY m.id")
+    List<Member> findActiveBlockAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
     @Query("SELECT m FROM Member m WHERE " +
             "LOWER(m.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
             "LOWER(m.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -28,4 +40,44 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
     Optional<Member> findByPhoneAndIsActiveTrue(String phone);
 
     List<Member> findByIsOperatorTrueAndIsActiveTrue();
-}
\ No newline at end of file
+
+    /**
+     * Deposit and loan totals of a member in one round trip; a null financialYear means all years.
+     * Active rows are valued with interest up to {@code settlementDate}.
+     */
+    @Query(value = "SELECT " +
+            "(SELECT COALESCE(SUM(d.amount), 0) FROM deposits d WHERE d.member_id = :memberId " +
+            "AND (CAST(:financialYear AS varchar) IS NULL OR d.financial_year = :financialYear)) AS \"totalDeposits\", " +
+            "(SELECT COUNT(*) FROM deposits d WHERE d.member_id = :memberId " +
+            "AND (CAST(:financialYear AS varchar) IS NULL OR d.financial_year = :financialYear)) AS \"depositCount\", " +
+            "(SELECT COALESCE(SUM(d.amount + " + InterestSql.DEPOSIT_INTEREST + "), 0) FROM deposits d " +
+            "WHERE d.member_id = :memberId AND d.status = 'ACTIVE' " +
+            "AND (CAST(:financialYear AS varchar) IS NULL OR d.financial_year = :financialYear)) AS \"activeDepositsWithInterest\", " +
+            "(SELECT COALESCE(SUM(l.loan_amount), 0) FROM loans l WHERE l.member_id = :memberId " +
+            "AND (CAST(:financialYear AS varchar) IS NULL OR l.financial_year = :financialYear)) AS \"totalLoans\", " +
+            "(SELECT COUNT(*) FROM loans l WHERE l.member_id = :memberId " +
+            "AND (CAST(:financialYear AS varchar) IS NULL OR l.financial_year = :financialYear)) AS \"loanCount\", " +
+            "(SELECT COALESCE(SUM(l.loan_amount + " + InterestSql.LOAN_INTEREST + "), 0) FROM loans l " +
+            "WHERE l.member_id = :memberId AND l.status = 'ACTIVE' " +
+            "AND (CAST(:financialYear AS varchar) IS NULL OR l.financial_year = :financialYear)) AS \"activeLoansWithInterest\"",
+            nativeQuery = true)
+    MemberStatementTotals getStatementTotals(@Param("memberId") UUID memberId,
+                                             @Param("financialYear") String financialYear,
+                                             @Param("settlementDate") LocalDate settlementDate);
+
+    /**
+     * Same as {@link #getStatementTotals} for all years, with the lifetime totals read from
+     * member_balances; only the member's ACTIVE rows are scanned. Null if the member has no
+     * balance row yet.
+     */
+    @Query(value = "SELECT b.total_deposited AS \"totalDeposits\", b.deposit_count AS \"depositCount\", " +
+            "(SELECT COALESCE(SUM(d.amount + " + InterestSql.DEPOSIT_INTEREST + "), 0) FROM deposits d " +
+            "WHERE d.member_id = b.member_id AND d.status = 'ACTIVE') AS \"activeDepositsWithInterest\", " +
+            "b.total_borrowed AS \"totalLoans\", b.loan_count AS \"loanCount\", " +
+            "(SELECT COALESCE(SUM(l.loan_amount + " + InterestSql.LOAN_INTEREST + "), 0) FROM loans l " +
+            "WHERE l.member_id = b.member_id AND l.status = 'ACTIVE') AS \"activeLoansWithInterest\" " +
+            "FROM member_balances b WHERE b.member_id = :memberId",
+            nativeQuery = true)
+    MemberStatementTotals getStatementTotalsFromBalance(@Param("memberId") UUID memberId,
+                                                        @Param("settlementDate") LocalDate settlementDate);
+}
@@ -0,0 +1,18 @@
+package com.graminbank.repository;
+
+import com.graminbank.model.MonthlyClosing;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface MonthlyClosingRepository extends JpaRepository<MonthlyClosing, UUID> {
+
+    Optional<MonthlyClosing> findByClosingMonth(LocalDate closingMonth);
+
+    List<MonthlyClosing> findByFinancialYearOrderByClosingMonth(String financialYear);
+}
@@ -0,0 +1,16 @@
+package com.graminbank.repository;
+
+import com.graminbank.model.ReportCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReportCacheRepository extends JpaRepository<ReportCacheEntry, String> {
+
+    @Modifying
+    @Query("DELETE FROM ReportCacheEntry e WHERE e.financialYear = :financialYear")
+    int deleteByFinancialYear(@Param("financialYear") String financialYear);
+}
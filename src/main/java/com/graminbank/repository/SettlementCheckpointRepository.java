@@ -0,0 +1,43 @@
+package com.graminbank.repository;
+
+import com.graminbank.model.SettlementCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+@Repository
+public interface SettlementCheckpointRepository extends JpaRepository<SettlementCheckpoint, String> {
+
+    @Modifying
+    @Query("UPDATE SettlementCheckpoint c SET " +
+            "c.depositsSettled = c.depositsSettled + :count, " +
+            "c.totalDepositAmount = c.totalDepositAmount + :amount, " +
+            "c.totalDepositInterest = c.totalDepositInterest + :interest, " +
+            "c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.financialYear = :financialYear")
+    int addDepositProgress(@Param("financialYear") String financialYear,
+                           @Param("count") long count,
+                           @Param("amount") BigDecimal amount,
+                           @Param("interest") BigDecimal interest);
+
+    @Modifying
+    @Query("UPDATE SettlementCheckpoint c SET " +
+            "c.loansCarriedForward = c.loansCarriedForward + :count, " +
+            "c.totalLoanAmount = c.totalLoanAmount + :amount, " +
+            "c.totalLoanInterest = c.totalLoanInterest + :interest, " +
+            "c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.financialYear = :financialYear")
+    int addLoanProgress(@Param("financialYear") String financialYear,
+                        @Param("count") long count,
+                        @Param("amount") BigDecimal amount,
+                        @Param("interest") BigDecimal interest);
+
+    @Modifying
+    @Query("UPDATE SettlementCheckpoint c SET c.phase = :phase, c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.financialYear = :financialYear")
+    int updatePhase(@Param("financialYear") String financialYear, @Param("phase") String phase);
+}
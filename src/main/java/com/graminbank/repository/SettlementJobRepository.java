@@ -0,0 +1,30 @@
+package com.graminbank.repository;
+
+import com.graminbank.model.SettlementJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SettlementJobRepository extends JpaRepository<SettlementJob, UUID> {
+
+    Optional<SettlementJob> findFirstByFinancialYearAndStatusInOrderByCreatedAtDesc(String financialYear,
+                                                                                    Collection<String> statuses);
+
+    @Modifying
+    @Query("UPDATE SettlementJob j SET j.phase = :phase, j.rowsProcessed = :rowsProcessed, " +
+            "j.rowsPerSecond = :rowsPerSecond, j.etaSeconds = :etaSeconds, j.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE j.id = :id")
+    int updateProgress(@Param("id") UUID id,
+                       @Param("phase") String phase,
+                       @Param("rowsProcessed") long rowsProcessed,
+                       @Param("rowsPerSecond") BigDecimal rowsPerSecond,
+                       @Param("etaSeconds") Long etaSeconds);
+}
@@ -0,0 +1,24 @@
+package com.graminbank.repository;
+
+import com.graminbank.model.StatementBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface StatementBatchRepository extends JpaRepository<StatementBatch, UUID> {
+
+    Optional<StatementBatch> findFirstByFinancialYearOrderByCreatedAtDesc(String financialYear);
+
+    @Modifying
+    @Query("UPDATE StatementBatch b SET b.membersProcessed = b.membersProcessed + :members, " +
+            "b.lastMemberId = :lastMemberId, b.updatedAt = CURRENT_TIMESTAMP WHERE b.id = :id")
+    int addProgress(@Param("id") UUID id,
+                    @Param("members") long members,
+                    @Param("lastMemberId") UUID lastMemberId);
+}
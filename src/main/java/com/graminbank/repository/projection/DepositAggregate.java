@@ -0,0 +1,15 @@
+package com.graminbank.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of deposit totals per status and financial year.
+ */
+public interface DepositAggregate {
+    String getStatus();
+    String getFinancialYear();
+    BigDecimal getTotalAmount();
+    BigDecimal getTotalInterestEarned();
+    BigDecimal getTotalPayout();
+    Long getRowCount();
+}
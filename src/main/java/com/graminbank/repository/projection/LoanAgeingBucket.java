@@ -0,0 +1,16 @@
+package com.graminbank.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Active loans of one ageing bucket. bucket is the width_bucket index over days since
+ * loan_date (0 = up to 30 days, 1 = 31-90, 2 = 91-180, 3 = over 180).
+ */
+public interface LoanAgeingBucket {
+    Integer getBucket();
+    Long getRowCount();
+    BigDecimal getPrincipal();
+    BigDecimal getPaidAmount();
+    BigDecimal getAccruedInterest();
+    BigDecimal getOutstanding();
+}
@@ -0,0 +1,17 @@
+package com.graminbank.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of loan totals per status and financial year.
+ */
+public interface LoanAggregate {
+    String getStatus();
+    String getFinancialYear();
+    BigDecimal getTotalLoanAmount();
+    BigDecimal getTotalInterestAmount();
+    BigDecimal getTotalRepayment();
+    BigDecimal getTotalPaidAmount();
+    BigDecimal getTotalDiscountAmount();
+    Long getRowCount();
+}
@@ -0,0 +1,18 @@
+package com.graminbank.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Loan columns needed by the public list, joined with the member's name.
+ */
+public interface MaskedLoanRow {
+    UUID getId();
+    BigDecimal getLoanAmount();
+    LocalDate getLoanDate();
+    String getStatus();
+    UUID getMemberId();
+    String getFirstName();
+    String getLastName();
+}
@@ -0,0 +1,15 @@
+package com.graminbank.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Statement totals of one member, optionally limited to a financial year.
+ */
+public interface MemberStatementTotals {
+    BigDecimal getTotalDeposits();
+    Long getDepositCount();
+    BigDecimal getActiveDepositsWithInterest();
+    BigDecimal getTotalLoans();
+    Long getLoanCount();
+    BigDecimal getActiveLoansWithInterest();
+}
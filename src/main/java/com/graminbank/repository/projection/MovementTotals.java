@@ -0,0 +1,11 @@
+package com.graminbank.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Sum and count of the deposits or loans dated in a period.
+ */
+public interface MovementTotals {
+    BigDecimal getTotalAmount();
+    Long getRowCount();
+}
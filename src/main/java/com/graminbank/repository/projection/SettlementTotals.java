@@ -0,0 +1,18 @@
+package com.graminbank.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Totals returned by the set-based settlement statements.
+ * For loans, totalInterest is the interest charged on carry-forward and
+ * carriedAmount the sum of the new next-year loans. memberIds are the distinct members
+ * whose rows the statement changed.
+ */
+public interface SettlementTotals {
+    Long getRowCount();
+    BigDecimal getTotalAmount();
+    BigDecimal getTotalInterest();
+    BigDecimal getCarriedAmount();
+    UUID[] getMemberIds();
+}
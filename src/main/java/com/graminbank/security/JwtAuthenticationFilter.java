@@ -1,8 +1,7 @@
 package com.graminbank.security;
 
-import com.graminbank.model.Member;
-import com.graminbank.repository.MemberRepository;
 import com.graminbank.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,8 +15,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,7 +23,7 @@ import java.util.UUID;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final MemberRepository memberRepository;
+    private final MemberRoleCache memberRoleCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -43,34 +40,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         jwt = authHeader.substring(7);
-        username = jwtUtil.extractUsername(jwt);
+        // One parse verifies the signature and expiry and yields every claim
+        final Claims claims = jwtUtil.parseToken(jwt);
+        username = claims.getSubject();
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtil.validateToken(jwt, username)) {
-                List<SimpleGrantedAuthority> authorities;
-
-                // Check if it's a member token (starts with MEMBER_)
-                if (username.startsWith("MEMBER_")) {
-                    // Extract member ID and check if operator
-                    UUID memberId = UUID.fromString(username.replace("MEMBER_", ""));
-                    Member member = memberRepository.findById(memberId).orElse(null);
-
-                    if (member != null && member.getIsOperator()) {
-                        authorities = Arrays.asList(
-                                new SimpleGrantedAuthority("ROLE_OPERATOR"),
-                                new SimpleGrantedAuthority("ROLE_MEMBER")
-                        );
-                    } else {
-                        authorities = Collections.singletonList(
-                                new SimpleGrantedAuthority("ROLE_MEMBER")
-                        );
-                    }
-                } else {
-                    // Admin token
-                    authorities = Collections.singletonList(
-                            new SimpleGrantedAuthority("ROLE_ADMIN")
-                    );
-                }
+            List<String> roles = resolveRoles(username, claims);
+            if (!roles.isEmpty()) {
+                List<SimpleGrantedAuthority> authorities = roles.stream()
+                        .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                        .toList();
 
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         username,
@@ -84,4 +63,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Roles come from the signed roles claim, so authorization needs no database access.
+     * Member tokens go through {@link MemberRoleCache} when it is enabled for immediate
+     * revocation, and for tokens issued before the claim existed.
+     */
+    private List<String> resolveRoles(String username, Claims claims) {
+        List<String> roles = jwtUtil.extractRoles(claims);
+        if (username.startsWith("MEMBER_")) {
+            if (roles == null || memberRoleCache.isEnabled()) {
+                return memberRoleCache.get(UUID.fromString(username.replace("MEMBER_", "")));
+            }
+            return roles;
+        }
+        // Admin token
+        return roles != null ? roles : List.of("ADMIN");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.graminbank.security;
+
+import com.graminbank.model.Member;
+import com.graminbank.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-member roles for member tokens. Roles are normally taken from the token's signed
+ * roles claim; with security.member-role-cache.enabled they are looked up here instead,
+ * so operator changes and deactivations apply to tokens already issued. Each member is
+ * loaded at most once until {@link #evict(UUID)}. Also used for tokens issued before
+ * the roles claim existed.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberRoleCache {
+
+    public static final String MEMBER = "MEMBER";
+    public static final String OPERATOR = "OPERATOR";
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final MemberRepository memberRepository;
+
+    @Value("${security.member-role-cache.enabled:false}")
+    private boolean enabled;
+
+    private final Map<UUID, List<String>> cache = new ConcurrentHashMap<>();
+
+    public static List<String> rolesOf(Member member) {
+        return Boolean.TRUE.equals(member.getIsOperator()) ? List.of(MEMBER, OPERATOR) : List.of(MEMBER);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The member's roles, empty for an unknown or deactivated member.
+     */
+    public List<String> get(UUID memberId) {
+        List<String> roles = cache.get(memberId);
+        if (roles != null) {
+            return roles;
+        }
+
+        roles = memberRepository.findById(memberId)
+                .filter(member -> Boolean.TRUE.equals(member.getIsActive()))
+                .map(MemberRoleCache::rolesOf)
+                .orElse(List.of());
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+        cache.put(memberId, roles);
+        return roles;
+    }
+
+    /**
+     * Drops the member now and again after the surrounding transaction commits, so a request
+     * racing the update cannot leave the old roles cached.
+     */
+    public void evict(UUID memberId) {
+        cache.remove(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(memberId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.graminbank.service;
+
+import com.graminbank.model.AccrualSnapshot;
+import com.graminbank.model.Deposit;
+import com.graminbank.model.Loan;
+import com.graminbank.repository.AccrualSnapshotRepository;
+import com.graminbank.repository.DepositRepository;
+import com.graminbank.repository.LoanRepository;
+import com.graminbank.util.FixedPointInterestCalculator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.graminbank.util.BankConstants.ACTIVE;
+
+/**
+ * Writes the daily accrual snapshot for every ACTIVE deposit and loan, and serves
+ * those snapshots to the list/dashboard/statement read paths so they do not
+ * recompute interest per row. Rows edited since the last run fall back to live computation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccrualService {
+
+    // Keyset start: sorts before every id in PostgreSQL
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    // One batched round trip per chunk, inserting or overwriting without reading first
+    private static final String UPSERT_SNAPSHOT =
+            "INSERT INTO accrual_snapshots (id, entry_type, member_id, accrual_date, accrued_interest, " +
+            "current_total, current_remaining, source_updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (id) DO UPDATE SET entry_type = EXCLUDED.entry_type, member_id = EXCLUDED.member_id, " +
+            "accrual_date = EXCLUDED.accrual_date, accrued_interest = EXCLUDED.accrued_interest, " +
+            "current_total = EXCLUDED.current_total, current_remaining = EXCLUDED.current_remaining, " +
+            "source_updated_at = EXCLUDED.source_updated_at";
+
+    private final DepositRepository depositRepository;
+    private final LoanRepository loanRepository;
+    private final AccrualSnapshotRepository accrualSnapshotRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${accrual.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${accrual.cron:0 5 0 * * *}")
+    public void runDailyAccrual() {
+        LocalDate today = LocalDate.now();
+        long started = System.currentTimeMillis();
+
+        int deposits = accrueDeposits(today);
+        int loans = accrueLoans(today);
+        Integer removed = transactionTemplate.execute(status -> accrualSnapshotRepository.deleteOlderThan(today));
+
+        log.info("Daily accrual for {} done in {} ms: {} deposits, {} loans, {} stale snapshots removed",
+                today, System.currentTimeMillis() - started, deposits, loans, removed);
+    }
+
+    /**
+     * Today's snapshots for the ACTIVE deposits in {@code deposits} that have not changed since the run.
+     */
+    public Map<UUID, AccrualSnapshot> findValidDepositSnapshots(Collection<Deposit> deposits) {
+        return findValid(deposits.stream()
+                .filter(d -> ACTIVE.equals(d.getStatus()))
+                .collect(Collectors.toMap(Deposit::getId, d -> Objects.requireNonNullElse(d.getUpdatedAt(), LocalDateTime.MIN))));
+    }
+
+    /**
+     * Today's snapshots for the ACTIVE loans in {@code loans} that have not changed since the run.
+     */
+    public Map<UUID, AccrualSnapshot> findValidLoanSnapshots(Collection<Loan> loans) {
+        return findValid(loans.stream()
+                .filter(l -> ACTIVE.equals(l.getStatus()))
+                .collect(Collectors.toMap(Loan::getId, l -> Objects.requireNonNullElse(l.getUpdatedAt(), LocalDateTime.MIN))));
+    }
+
+    /**
+     * Both of the above in a single query. Deposit and loan ids never collide, so one map holds both.
+     */
+    public Map<UUID, AccrualSnapshot> findValidSnapshots(Collection<Deposit> deposits, Collection<Loan> loans) {
+        Map<UUID, LocalDateTime> updatedAtById = new HashMap<>();
+        deposits.stream().filter(d -> ACTIVE.equals(d.getStatus()))
+                .forEach(d -> updatedAtById.put(d.getId(), Objects.requireNonNullElse(d.getUpdatedAt(), LocalDateTime.MIN)));
+        loans.stream().filter(l -> ACTIVE.equals(l.getStatus()))
+                .forEach(l -> updatedAtById.put(l.getId(), Objects.requireNonNullElse(l.getUpdatedAt(), LocalDateTime.MIN)));
+        return findValid(updatedAtById);
+    }
+
+    private Map<UUID, AccrualSnapshot> findValid(Map<UUID, LocalDateTime> updatedAtById) {
+        if (updatedAtById.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, AccrualSnapshot> valid = new HashMap<>();
+        for (AccrualSnapshot snapshot : accrualSnapshotRepository.findByIdInAndAccrualDate(updatedAtById.keySet(), LocalDate.now())) {
+            if (updatedAtById.get(snapshot.getId()).equals(snapshot.getSourceUpdatedAt())) {
+                valid.put(snapshot.getId(), snapshot);
+            }
+        }
+        return valid;
+    }
+
+    private int accrueDeposits(LocalDate today) {
+        int processed = 0;
+        UUID lastId = FIRST_ID;
+        while (true) {
+            UUID after = lastId;
+            List<Deposit> chunk = transactionTemplate.execute(status -> {
+                List<Deposit> deposits = depositRepository.findChunkByStatusAfter(ACTIVE, after, PageRequest.of(0, chunkSize));
+                jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT, deposits.stream()
+                        .map(deposit -> depositSnapshot(deposit, today))
+                        .toList());
+                return deposits;
+            });
+            processed += chunk.size();
+            if (chunk.size() < chunkSize) {
+                return processed;
+            }
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+
+    private int accrueLoans(LocalDate today) {
+        int processed = 0;
+        UUID lastId = FIRST_ID;
+        while (true) {
+            UUID after = lastId;
+            List<Loan> chunk = transactionTemplate.execute(status -> {
+                List<Loan> loans = loanRepository.findChunkByStatusAfter(ACTIVE, after, PageRequest.of(0, chunkSize));
+                jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT, loans.stream()
+                        .map(loan -> loanSnapshot(loan, today))
+                        .toList());
+                return loans;
+            });
+            processed += chunk.size();
+            if (chunk.size() < chunkSize) {
+                return processed;
+            }
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+
+    // Parameters for UPSERT_SNAPSHOT
+    private static Object[] depositSnapshot(Deposit deposit, LocalDate today) {
+        BigDecimal interest = FixedPointInterestCalculator.calculateDepositInterest(
+                deposit.getAmount(), deposit.getDepositDate(), today);
+        return new Object[]{deposit.getId(), AccrualSnapshot.DEPOSIT, deposit.getMember().getId(), today,
+                interest, deposit.getAmount().add(interest), null, deposit.getUpdatedAt()};
+    }
+
+    private static Object[] loanSnapshot(Loan loan, LocalDate today) {
+        BigDecimal interest = FixedPointInterestCalculator.calculateLoanInterest(
+                loan.getLoanAmount(), loan.getLoanDate(), today);
+        BigDecimal currentTotal = loan.getLoanAmount().add(interest);
+        BigDecimal currentRemaining = currentTotal.subtract(loan.getPaidAmount().add(loan.getDiscountAmount()));
+        return new Object[]{loan.getId(), AccrualSnapshot.LOAN, loan.getMember().getId(), today,
+                interest, currentTotal, currentRemaining, loan.getUpdatedAt()};
+    }
+}
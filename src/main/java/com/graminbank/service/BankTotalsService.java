@@ -0,0 +1,222 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.BankTotalsRebuildResponse;
+import com.graminbank.dto.response.SummaryResponse;
+import com.graminbank.model.BankTotals;
+import com.graminbank.repository.BankTotalsRepository;
+import com.graminbank.repository.DepositRepository;
+import com.graminbank.repository.LoanRepository;
+import com.graminbank.repository.projection.DepositAggregate;
+import com.graminbank.repository.projection.LoanAggregate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.graminbank.model.BankTotals.SINGLETON_ID;
+
+/**
+ * Maintains the bank_totals row. Writers call {@link #apply(LedgerDelta)} inside
+ * their own transaction; readers get the totals with a single primary-key lookup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BankTotalsService {
+
+    private static final List<String> PAID_OUT_DEPOSIT_STATUSES = List.of("RETURNED", "SETTLED");
+    private static final List<String> INTEREST_RECEIVED_LOAN_STATUSES = List.of("CLOSED", "SETTLED");
+
+    private final BankTotalsRepository bankTotalsRepository;
+    private final DepositRepository depositRepository;
+    private final LoanRepository loanRepository;
+
+    @Transactional
+    public void apply(LedgerDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        if (applyDelta(delta) == 0) {
+            // First write ever: seed the row from the ledger, which already includes this write
+            log.info("bank_totals row missing, seeding from ledger");
+            if (seed(recompute()) == 0) {
+                // Another transaction seeded it first, from a ledger without this write
+                applyDelta(delta);
+            }
+        }
+    }
+
+    @Transactional
+    public BankTotals getTotals() {
+        Optional<BankTotals> totals = bankTotalsRepository.findById(SINGLETON_ID);
+        if (totals.isPresent()) {
+            return totals.get();
+        }
+        seed(recompute());
+        return bankTotalsRepository.findById(SINGLETON_ID).orElseThrow();
+    }
+
+    /**
+     * Recomputes the totals from the raw deposit and loan rows and overwrites the stored row.
+     * The row is created if missing and locked first, so concurrent writers wait for the
+     * rebuild to commit and then apply their delta on top of it.
+     */
+    @Transactional
+    public BankTotalsRebuildResponse rebuild() {
+        boolean seeded = seed(new BankTotals()) == 1;
+        BankTotals stored = bankTotalsRepository.findByIdForUpdate(SINGLETON_ID).orElseThrow();
+        BankTotals fresh = recompute();
+
+        BankTotalsRebuildResponse response = new BankTotalsRebuildResponse();
+        response.setBefore(seeded ? null : toSummary(stored));
+        response.setAfter(toSummary(fresh));
+        response.setDriftDetected(seeded || !sameTotals(stored, fresh));
+        response.setRebuiltAt(LocalDateTime.now());
+
+        if (response.isDriftDetected()) {
+            log.warn("bank_totals drift detected. Stored: {}, recomputed: {}", response.getBefore(), response.getAfter());
+        }
+
+        bankTotalsRepository.save(fresh);
+        return response;
+    }
+
+    public SummaryResponse toSummary(BankTotals totals) {
+        // Money In: Deposits collected + Loan repayments
+        // Money Out: Loans disbursed + Deposit principal returned + Deposit interest paid
+        BigDecimal availableBalance = totals.getTotalDepositCollected()
+                .add(totals.getTotalLoanRepaymentsReceived())
+                .add(totals.getTotalLoanRepaid())
+                .subtract(totals.getTotalLoansDisbursed())
+                .subtract(totals.getTotalDepositPrincipalReturned())
+                .subtract(totals.getTotalDepositInterestPaid());
+
+        // Bank's profit = (5% loan interest received) - (2.5% deposit interest paid)
+        BigDecimal bankProfit = totals.getTotalLoanInterestReceived()
+                .subtract(totals.getTotalDepositInterestPaid());
+
+        SummaryResponse response = new SummaryResponse();
+        response.setTotalDeposits(totals.getActiveDeposits());
+        response.setTotalLoans(totals.getActiveLoans());
+        response.setAvailableBalance(availableBalance);
+        response.setBankProfit(bankProfit);
+        response.setActiveDepositsCount(totals.getActiveDepositsCount());
+        response.setActiveLoansCount(totals.getActiveLoansCount());
+        response.setFinancialYear(String.valueOf(LocalDate.now().getYear()));
+        return response;
+    }
+
+    /**
+     * Folds the per-status/per-year aggregates (two GROUP BY queries) into a fresh totals row.
+     */
+    private BankTotals recompute() {
+        BigDecimal depositCollected = BigDecimal.ZERO;
+        BigDecimal depositPrincipalReturned = BigDecimal.ZERO;
+        BigDecimal depositInterestPaid = BigDecimal.ZERO;
+        BigDecimal activeDeposits = BigDecimal.ZERO;
+        long activeDepositsCount = 0;
+
+        for (DepositAggregate aggregate : depositRepository.aggregateByStatusAndFinancialYear()) {
+            depositCollected = depositCollected.add(aggregate.getTotalAmount());
+            if (PAID_OUT_DEPOSIT_STATUSES.contains(aggregate.getStatus())) {
+                depositPrincipalReturned = depositPrincipalReturned.add(aggregate.getTotalAmount());
+                depositInterestPaid = depositInterestPaid.add(aggregate.getTotalInterestEarned());
+            } else if ("ACTIVE".equals(aggregate.getStatus())) {
+                activeDeposits = activeDeposits.add(aggregate.getTotalAmount());
+                activeDepositsCount += aggregate.getRowCount();
+            }
+        }
+
+        BigDecimal loanRepaymentsReceived = BigDecimal.ZERO;
+        BigDecimal loansDisbursed = BigDecimal.ZERO;
+        BigDecimal loanRepaid = BigDecimal.ZERO;
+        BigDecimal loanInterestReceived = BigDecimal.ZERO;
+        BigDecimal activeLoans = BigDecimal.ZERO;
+        long activeLoansCount = 0;
+
+        for (LoanAggregate aggregate : loanRepository.aggregateByStatusAndFinancialYear()) {
+            loanRepaymentsReceived = loanRepaymentsReceived.add(aggregate.getTotalPaidAmount());
+            loansDisbursed = loansDisbursed.add(aggregate.getTotalLoanAmount());
+            if ("CLOSED".equals(aggregate.getStatus())) {
+                loanRepaid = loanRepaid.add(aggregate.getTotalRepayment());
+            }
+            if (INTEREST_RECEIVED_LOAN_STATUSES.contains(aggregate.getStatus())) {
+                loanInterestReceived = loanInterestReceived.add(aggregate.getTotalInterestAmount());
+            }
+            if ("ACTIVE".equals(aggregate.getStatus())) {
+                activeLoans = activeLoans.add(aggregate.getTotalLoanAmount());
+                activeLoansCount += aggregate.getRowCount();
+            }
+        }
+
+        BankTotals totals = new BankTotals();
+        totals.setTotalDepositCollected(depositCollected);
+        totals.setTotalDepositPrincipalReturned(depositPrincipalReturned);
+        totals.setTotalDepositInterestPaid(depositInterestPaid);
+        totals.setActiveDeposits(activeDeposits);
+        totals.setActiveDepositsCount(activeDepositsCount);
+        totals.setTotalLoanRepaymentsReceived(loanRepaymentsReceived);
+        totals.setTotalLoansDisbursed(loansDisbursed);
+        totals.setTotalLoanRepaid(loanRepaid);
+        totals.setTotalLoanInterestReceived(loanInterestReceived);
+        totals.setActiveLoans(activeLoans);
+        totals.setActiveLoansCount(activeLoansCount);
+        return totals;
+    }
+
+    private int applyDelta(LedgerDelta delta) {
+        return bankTotalsRepository.applyDelta(
+                SINGLETON_ID,
+                delta.getDepositCollected(),
+                delta.getDepositPrincipalReturned(),
+                delta.getDepositInterestPaid(),
+                delta.getActiveDeposits(),
+                delta.getActiveDepositsCount(),
+                delta.getLoanRepaymentsReceived(),
+                delta.getLoansDisbursed(),
+                delta.getLoanRepaid(),
+                delta.getLoanInterestReceived(),
+                delta.getActiveLoans(),
+                delta.getActiveLoansCount()
+        );
+    }
+
+    // INSERT ... ON CONFLICT DO NOTHING, so concurrent first reads/writes can't collide on the primary key
+    private int seed(BankTotals totals) {
+        return bankTotalsRepository.insertIfAbsent(
+                SINGLETON_ID,
+                totals.getTotalDepositCollected(),
+                totals.getTotalDepositPrincipalReturned(),
+                totals.getTotalDepositInterestPaid(),
+                totals.getActiveDeposits(),
+                totals.getActiveDepositsCount(),
+                totals.getTotalLoanRepaymentsReceived(),
+                totals.getTotalLoansDisbursed(),
+                totals.getTotalLoanRepaid(),
+                totals.getTotalLoanInterestReceived(),
+                totals.getActiveLoans(),
+                totals.getActiveLoansCount()
+        );
+    }
+
+    private static boolean sameTotals(BankTotals a, BankTotals b) {
+        return a.getTotalDepositCollected().compareTo(b.getTotalDepositCollected()) == 0
+                && a.getTotalDepositPrincipalReturned().compareTo(b.getTotalDepositPrincipalReturned()) == 0
+                && a.getTotalDepositInterestPaid().compareTo(b.getTotalDepositInterestPaid()) == 0
+                && a.getActiveDeposits().compareTo(b.getActiveDeposits()) == 0
+                && a.getActiveDepositsCount().equals(b.getActiveDepositsCount())
+                && a.getTotalLoanRepaymentsReceived().compareTo(b.getTotalLoanRepaymentsReceived()) == 0
+                && a.getTotalLoansDisbursed().compareTo(b.getTotalLoansDisbursed()) == 0
+                && a.getTotalLoanRepaid().compareTo(b.getTotalLoanRepaid()) == 0
+                && a.getTotalLoanInterestReceived().compareTo(b.getTotalLoanInterestReceived()) == 0
+                && a.getActiveLoans().compareTo(b.getActiveLoans()) == 0
+                && a.getActiveLoansCount().equals(b.getActiveLoansCount());
+    }
+}
@@ -0,0 +1,105 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.CashFlowResponse;
+import com.graminbank.dto.response.CashFlowResponse.Bucket;
+import com.graminbank.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Money in and out of the bank per day or month. Each movement type is grouped with
+ * date_trunc over its indexed date column in the database, and generate_series supplies
+ * the empty buckets, so one query returns the whole series.
+ */
+@Service
+@RequiredArgsConstructor
+public class CashFlowService {
+
+    private static final Set<String> BUCKETS = Set.of("day", "month");
+
+    // Day buckets are capped to keep the response to a chartable size
+    private static final long MAX_DAY_BUCKETS = 731;
+
+    // Loans created by carry-forward replace an old loan; no money changes hands
+    private static final String NOT_CARRIED_FORWARD = "l.carried_forward_from IS NULL";
+
+    private static final String CASH_FLOW_SQL =
+            "WITH flows AS (" +
+            "SELECT date_trunc(:bucket, CAST(d.deposit_date AS timestamp)) AS bucket_start, SUM(d.amount) AS deposits, " +
+            "0 AS repayments, 0 AS disbursed, 0 AS principal_returned, 0 AS interest_paid " +
+            "FROM deposits d WHERE d.deposit_date BETWEEN :from AND :to GROUP BY 1 " +
+            "UNION ALL " +
+            "SELECT date_trunc(:bucket, CAST(p.payment_date AS timestamp)), 0, SUM(p.payment_amount), 0, 0, 0 " +
+            "FROM loan_payments p WHERE p.payment_date BETWEEN :from AND :to GROUP BY 1 " +
+            "UNION ALL " +
+            "SELECT date_trunc(:bucket, CAST(l.loan_date AS timestamp)), 0, 0, SUM(l.loan_amount), 0, 0 " +
+            "FROM loans l WHERE l.loan_date BETWEEN :from AND :to AND " + NOT_CARRIED_FORWARD + " GROUP BY 1 " +
+            "UNION ALL " +
+            "SELECT date_trunc(:bucket, CAST(d.return_date AS timestamp)), 0, 0, 0, SUM(d.amount), SUM(COALESCE(d.interest_earned, 0)) " +
+            "FROM deposits d WHERE d.status IN ('RETURNED', 'SETTLED') AND d.return_date BETWEEN :from AND :to " +
+            "GROUP BY 1) " +
+            "SELECT CAST(s.bucket_start AS date) AS bucket_start, " +
+            "COALESCE(SUM(f.deposits), 0) AS deposits, COALESCE(SUM(f.repayments), 0) AS repayments, " +
+            "COALESCE(SUM(f.disbursed), 0) AS disbursed, COALESCE(SUM(f.principal_returned), 0) AS principal_returned, " +
+            "COALESCE(SUM(f.interest_paid), 0) AS interest_paid " +
+            "FROM generate_series(date_trunc(:bucket, CAST(:from AS timestamp)), CAST(:to AS timestamp), " +
+            "CAST('1 ' || :bucket AS interval)) AS s(bucket_start) " +
+            "LEFT JOIN flows f ON f.bucket_start = s.bucket_start " +
+            "GROUP BY s.bucket_start ORDER BY s.bucket_start";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CashFlowResponse getCashFlow(LocalDate from, LocalDate to, String bucket) {
+        if (!BUCKETS.contains(bucket)) {
+            throw new BusinessException("Bucket must be day or month");
+        }
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from
+                : "day".equals(bucket) ? end.minusDays(29) : end.minusMonths(11).withDayOfMonth(1);
+        if (start.isAfter(end)) {
+            throw new BusinessException("from must not be after to");
+        }
+        if ("day".equals(bucket) && ChronoUnit.DAYS.between(start, end) >= MAX_DAY_BUCKETS) {
+            throw new BusinessException("Daily cash flow is limited to " + MAX_DAY_BUCKETS + " days, use bucket=month");
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("bucket", bucket)
+                .addValue("from", start)
+                .addValue("to", end);
+        List<Bucket> buckets = jdbcTemplate.query(CASH_FLOW_SQL, params, (rs, rowNum) -> {
+            Bucket row = new Bucket();
+            row.setStart(rs.getObject("bucket_start", LocalDate.class));
+            row.setDepositsCollected(rs.getBigDecimal("deposits"));
+            row.setLoanRepayments(rs.getBigDecimal("repayments"));
+            row.setLoansDisbursed(rs.getBigDecimal("disbursed"));
+            row.setDepositPrincipalReturned(rs.getBigDecimal("principal_returned"));
+            row.setDepositInterestPaid(rs.getBigDecimal("interest_paid"));
+            row.setTotalInflow(row.getDepositsCollected().add(row.getLoanRepayments()));
+            row.setTotalOutflow(row.getLoansDisbursed()
+                    .add(row.getDepositPrincipalReturned())
+                    .add(row.getDepositInterestPaid()));
+            row.setNetFlow(row.getTotalInflow().subtract(row.getTotalOutflow()));
+            return row;
+        });
+
+        CashFlowResponse response = new CashFlowResponse();
+        response.setFrom(start);
+        response.setTo(end);
+        response.setBucket(bucket);
+        response.setBuckets(buckets);
+        for (Bucket row : buckets) {
+            response.setTotalInflow(response.getTotalInflow().add(row.getTotalInflow()));
+            response.setTotalOutflow(response.getTotalOutflow().add(row.getTotalOutflow()));
+        }
+        response.setNetFlow(response.getTotalInflow().subtract(response.getTotalOutflow()));
+        return response;
+    }
+}
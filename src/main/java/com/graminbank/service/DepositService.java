@@ -3,16 +3,20 @@ package com.graminbank.service;
 import com.graminbank.dto.request.DepositRequest;
 import com.graminbank.dto.request.DepositUpdateRequest;
 import com.graminbank.dto.response.DepositResponse;
+import com.graminbank.event.LedgerChangedEvent;
 import com.graminbank.exception.BusinessException;
 import com.graminbank.exception.ResourceNotFoundException;
+import com.graminbank.model.AccrualSnapshot;
 import com.graminbank.model.Deposit;
 import com.graminbank.model.Member;
 import com.graminbank.repository.DepositRepository;
 import com.graminbank.repository.MemberRepository;
+import com.graminbank.util.FinancialYearPeriod;
 import com.graminbank.util.InterestCalculator;
 import com.graminbank.util.DepositMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -30,6 +35,10 @@ public class DepositService {
 
     private final DepositRepository depositRepository;
     private final MemberRepository memberRepository;
+    private final BankTotalsService bankTotalsService;
+    private final MemberBalanceService memberBalanceService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccrualService accrualService;
 
     @Transactional
     public DepositResponse createDeposit(DepositRequest request) {
@@ -48,10 +57,14 @@ public class DepositService {
         deposit.setDepositDate(request.getDepositDate());
         deposit.setInterestRate(request.getInterestRate());
         deposit.setNotes(request.getNotes());
-        deposit.setFinancialYear(InterestCalculator.getFinancialYearFromDate(request.getDepositDate()));
+        deposit.setFinancialYear(FinancialYearPeriod.of(request.getDepositDate()).getLabel());
         deposit.setStatus("ACTIVE");
 
         Deposit savedDeposit = depositRepository.save(deposit);
+        LedgerDelta delta = new LedgerDelta().addDeposit(savedDeposit);
+        bankTotalsService.apply(delta);
+        memberBalanceService.apply(delta);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
         return DepositMapper.convertToResponse(savedDeposit);
     }
 
@@ -70,10 +83,12 @@ public class DepositService {
             throw new BusinessException("Deposit amount must be greater than 0");
         }
 
+        LedgerDelta delta = new LedgerDelta().removeDeposit(deposit);
+
         // Update fields
         deposit.setAmount(request.getAmount());
         deposit.setDepositDate(request.getDepositDate());
-        deposit.setFinancialYear(InterestCalculator.getFinancialYearFromDate(request.getDepositDate()));
+        deposit.setFinancialYear(FinancialYearPeriod.of(request.getDepositDate()).getLabel());
 
         // Update member if changed
         if (request.getMemberId() != null && !request.getMemberId().equals(deposit.getMember().getId())) {
@@ -83,13 +98,17 @@ public class DepositService {
         }
 
         Deposit updatedDeposit = depositRepository.save(deposit);
+        bankTotalsService.apply(delta.addDeposit(updatedDeposit));
+        memberBalanceService.apply(delta);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
         return DepositMapper.convertToResponse(updatedDeposit);
     }
 
     public Page<DepositResponse> getDepositsByStatus(String status, Pageable pageable) {
-        return   ( "ALL".equals(status) ? depositRepository.findAllByOrderByDepositDateDesc(pageable)
-                : depositRepository.findByStatusOrderByDepositDateDesc(status, pageable))
-                .map(DepositMapper::convertToResponseWithCurrentInterest);
+        Page<Deposit> deposits = "ALL".equals(status) ? depositRepository.findAllByOrderByDepositDateDesc(pageable)
+                : depositRepository.findByStatusOrderByDepositDateDesc(status, pageable);
+        Map<UUID, AccrualSnapshot> snapshots = accrualService.findValidDepositSnapshots(deposits.getContent());
+        return deposits.map(deposit -> DepositMapper.convertToResponseWithCurrentInterest(deposit, snapshots.get(deposit.getId())));
     }
 
     public DepositResponse getDepositById(UUID depositId) {
@@ -111,6 +130,8 @@ public class DepositService {
             throw new IllegalStateException("Deposit is not active");
         }
 
+        LedgerDelta delta = new LedgerDelta().removeDeposit(deposit);
+
         BigDecimal interest = InterestCalculator.calculateDepositInterest(
                 deposit.getAmount(),
                 deposit.getDepositDate(),
@@ -123,11 +144,16 @@ public class DepositService {
         deposit.setReturnDate(returnDate);
 
         Deposit returned = depositRepository.save(deposit);
+        bankTotalsService.apply(delta.addDeposit(returned));
+        memberBalanceService.apply(delta);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
         return DepositMapper.convertToResponse(returned);
     }
 
     @Transactional
     public void settleDeposit(Deposit deposit, LocalDate settlementDate) {
+        LedgerDelta delta = new LedgerDelta().removeDeposit(deposit);
+
         BigDecimal interest = InterestCalculator.calculateDepositInterest(
                 deposit.getAmount(),
                 deposit.getDepositDate(),
@@ -140,6 +166,9 @@ public class DepositService {
         deposit.setReturnDate(settlementDate);
 
         depositRepository.save(deposit);
+        bankTotalsService.apply(delta.addDeposit(deposit));
+        memberBalanceService.apply(delta);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
     }
 
 }
\ No newline at end of file
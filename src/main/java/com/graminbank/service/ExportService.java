@@ -0,0 +1,175 @@
+package com.graminbank.service;
+
+import com.graminbank.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bulk CSV export of the ledger. Rows are read through a forward-only cursor inside a
+ * read-only transaction (PostgreSQL only honours the fetch size with autocommit off)
+ * and written straight from the result set, so memory does not grow with the row count.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final Map<String, String> QUERIES = Map.of(
+            "deposits",
+            "SELECT d.id, d.member_id, m.first_name || ' ' || m.last_name AS member_name, d.amount, d.deposit_date, " +
+                    "d.interest_rate, d.financial_year, d.status, d.return_date, d.interest_earned, d.total_amount, " +
+                    "d.created_at, d.updated_at " +
+                    "FROM deposits d JOIN members m ON m.id = d.member_id",
+            "loans",
+            "SELECT l.id, l.member_id, m.first_name || ' ' || m.last_name AS member_name, l.loan_amount, l.loan_date, " +
+                    "l.interest_rate, l.financial_year, l.status, l.return_date, l.interest_amount, l.total_repayment, " +
+                    "l.discount_amount, l.paid_amount, l.remaining_amount, l.created_at, l.updated_at " +
+                    "FROM loans l JOIN members m ON m.id = l.member_id",
+            "payments",
+            "SELECT p.id, p.loan_id, l.member_id, m.first_name || ' ' || m.last_name AS member_name, " +
+                    "p.payment_amount, p.payment_date, p.discount_applied, l.financial_year, l.status AS loan_status, " +
+                    "p.created_at, p.created_by " +
+                    "FROM loan_payments p JOIN loans l ON l.id = p.loan_id JOIN members m ON m.id = l.member_id"
+    );
+
+    // Year and status filters apply to the deposit, the loan, or the payment's loan
+    private static final Map<String, String> ALIASES = Map.of("deposits", "d", "loans", "l", "payments", "l");
+
+    private static final Map<String, String> ORDER_BY = Map.of(
+            "deposits", " ORDER BY d.deposit_date, d.id",
+            "loans", " ORDER BY l.loan_date, l.id",
+            "payments", " ORDER BY p.payment_date, p.id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Fails fast (before the response is committed) on an unknown export type.
+     */
+    public void checkType(String type) {
+        if (!QUERIES.containsKey(type)) {
+            throw new ResourceNotFoundException("Unknown export: " + type);
+        }
+    }
+
+    public void writeCsv(String type, String financialYear, String status, boolean gzip, OutputStream out) throws IOException {
+        checkType(type);
+        String alias = ALIASES.get(type);
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        if (financialYear != null) {
+            conditions.add(alias + ".financial_year = ?");
+            params.add(financialYear);
+        }
+        if (status != null) {
+            conditions.add(alias + ".status = ?");
+            params.add(status);
+        }
+        String sql = QUERIES.get(type)
+                + (conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions))
+                + ORDER_BY.get(type);
+
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+        long started = System.currentTimeMillis();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Long rows = readOnly.execute(tx -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, (ResultSetExtractor<Long>) resultSet -> {
+            try {
+                int columns = writeHeader(writer, resultSet.getMetaData());
+                long count = 0;
+                while (resultSet.next()) {
+                    writeRow(writer, resultSet, columns);
+                    count++;
+                }
+                return count;
+            } catch (IOException e) {
+                // Client went away; abort the cursor
+                throw new UncheckedIOException(e);
+            }
+        }));
+
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        log.info("Exported {} {} rows in {} ms", rows, type, System.currentTimeMillis() - started);
+    }
+
+    private static int writeHeader(Writer writer, ResultSetMetaData metaData) throws SQLException, IOException {
+        int columns = metaData.getColumnCount();
+        for (int i = 1; i <= columns; i++) {
+            if (i > 1) {
+                writer.write(',');
+            }
+            writer.write(metaData.getColumnLabel(i));
+        }
+        writer.write('\n');
+        return columns;
+    }
+
+    private static void writeRow(Writer writer, ResultSet resultSet, int columns) throws SQLException, IOException {
+        for (int i = 1; i <= columns; i++) {
+            if (i > 1) {
+                writer.write(',');
+            }
+            String value = resultSet.getString(i);
+            if (value != null) {
+                writeEscaped(writer, value);
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static void writeEscaped(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                quote = true;
+                break;
+            }
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
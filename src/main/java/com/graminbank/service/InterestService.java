@@ -0,0 +1,75 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.request.BulkInterestRequest;
+import com.graminbank.dto.response.BulkInterestResponse;
+import com.graminbank.exception.BusinessException;
+import com.graminbank.util.BatchInterestCalculator;
+import com.graminbank.util.FixedPointInterestCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+@Slf4j
+@Service
+public class InterestService {
+
+    /**
+     * Prices many what-if rows in one call by packing them into columns
+     * and running {@link BatchInterestCalculator} once.
+     */
+    public BulkInterestResponse calculateBulk(BulkInterestRequest request) {
+        List<BulkInterestRequest.Row> rows = request.getRows();
+        int size = rows.size();
+        int endEpochDay = Math.toIntExact(request.getAsOfDate().toEpochDay());
+        int defaultRateCenti = "DEPOSIT".equals(request.getType())
+                ? FixedPointInterestCalculator.DEPOSIT_RATE_CENTI
+                : FixedPointInterestCalculator.LOAN_RATE_CENTI;
+
+        long[] principalPaise = new long[size];
+        int[] startEpochDay = new int[size];
+        int[] rateCenti = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            BulkInterestRequest.Row row = rows.get(i);
+            principalPaise[i] = row.getPrincipal().movePointRight(2).longValueExact();
+            startEpochDay[i] = Math.toIntExact(row.getStartDate().toEpochDay());
+            rateCenti[i] = row.getInterestRate() != null
+                    ? row.getInterestRate().movePointRight(2).intValueExact()
+                    : defaultRateCenti;
+
+            if (endEpochDay - startEpochDay[i] > BatchInterestCalculator.MAX_SPAN_DAYS) {
+                throw new BusinessException("Row " + i + ": start date is more than 100 years before the as-of date");
+            }
+        }
+
+        long[] interestPaise = BatchInterestCalculator.computeInterest(
+                principalPaise, startEpochDay, rateCenti, endEpochDay, ForkJoinPool.commonPool());
+
+        List<BulkInterestResponse.Row> results = new ArrayList<>(size);
+        long totalPrincipalPaise = 0;
+        long totalInterestPaise = 0;
+        for (int i = 0; i < size; i++) {
+            BulkInterestResponse.Row result = new BulkInterestResponse.Row();
+            result.setPrincipal(rows.get(i).getPrincipal());
+            result.setInterestRate(BigDecimal.valueOf(rateCenti[i], 2));
+            result.setMonths(FixedPointInterestCalculator.months(startEpochDay[i], endEpochDay));
+            result.setInterest(FixedPointInterestCalculator.fromPaise(interestPaise[i]));
+            result.setTotal(FixedPointInterestCalculator.fromPaise(principalPaise[i] + interestPaise[i]));
+            results.add(result);
+
+            totalPrincipalPaise += principalPaise[i];
+            totalInterestPaise += interestPaise[i];
+        }
+
+        BulkInterestResponse response = new BulkInterestResponse();
+        response.setAsOfDate(request.getAsOfDate());
+        response.setRows(results);
+        response.setTotalPrincipal(FixedPointInterestCalculator.fromPaise(totalPrincipalPaise));
+        response.setTotalInterest(FixedPointInterestCalculator.fromPaise(totalInterestPaise));
+        return response;
+    }
+}
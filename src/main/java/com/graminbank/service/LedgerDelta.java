@@ -0,0 +1,215 @@
+package com.graminbank.service;
+
+import com.graminbank.model.Deposit;
+import com.graminbank.model.Loan;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Accumulates the change a unit of work makes to the bank-wide totals.
+ * Call remove*() with a row's state before mutating it and add*() after,
+ * then hand the delta to {@link BankTotalsService#apply(LedgerDelta)} and
+ * {@link MemberBalanceService#apply(LedgerDelta)} and publish it
+ * as a {@link com.graminbank.event.LedgerChangedEvent}.
+ */
+@Getter
+public class LedgerDelta {
+
+    private BigDecimal depositCollected = BigDecimal.ZERO;
+    private BigDecimal depositPrincipalReturned = BigDecimal.ZERO;
+    private BigDecimal depositInterestPaid = BigDecimal.ZERO;
+    private BigDecimal activeDeposits = BigDecimal.ZERO;
+    private long activeDepositsCount;
+
+    private BigDecimal loanRepaymentsReceived = BigDecimal.ZERO;
+    private BigDecimal loansDisbursed = BigDecimal.ZERO;
+    private BigDecimal loanRepaid = BigDecimal.ZERO;
+    private BigDecimal loanInterestReceived = BigDecimal.ZERO;
+    private BigDecimal activeLoans = BigDecimal.ZERO;
+    private long activeLoansCount;
+
+    // Which members, years and tables this unit of work touched
+    private final Set<UUID> memberIds = new HashSet<>();
+    private final Set<String> financialYears = new HashSet<>();
+    private boolean depositsChanged;
+    private boolean loansChanged;
+
+    // Per-member changes; a bulk change only records which members it touched, in bulkMemberIds
+    private final Map<UUID, MemberDelta> memberDeltas = new HashMap<>();
+    private final Set<UUID> bulkMemberIds = new HashSet<>();
+    private boolean bulk;
+
+    public LedgerDelta addDeposit(Deposit deposit) {
+        return deposit(deposit, false);
+    }
+
+    public LedgerDelta removeDeposit(Deposit deposit) {
+        return deposit(deposit, true);
+    }
+
+    public LedgerDelta addLoan(Loan loan) {
+        return loan(loan, false);
+    }
+
+    public LedgerDelta removeLoan(Loan loan) {
+        return loan(loan, true);
+    }
+
+    /**
+     * Records {@code count} ACTIVE deposits of {@code financialYear}, belonging to {@code memberIds},
+     * moving to SETTLED in bulk.
+     */
+    public LedgerDelta addSettledDeposits(String financialYear, long count, BigDecimal principal, BigDecimal interest,
+                                          Collection<UUID> memberIds) {
+        touch(null, financialYear);
+        depositsChanged = true;
+        bulk = true;
+        bulkMemberIds.addAll(memberIds);
+
+        depositPrincipalReturned = depositPrincipalReturned.add(principal);
+        depositInterestPaid = depositInterestPaid.add(interest);
+        activeDeposits = activeDeposits.subtract(principal);
+        activeDepositsCount -= count;
+        return this;
+    }
+
+    /**
+     * Records the ACTIVE loans of {@code financialYear} being carried forward in bulk, each into
+     * one new ACTIVE loan of {@code nextFinancialYear}; the new loans total {@code newPrincipal}
+     * and belong to {@code memberIds}.
+     */
+    public LedgerDelta addCarriedForwardLoans(String financialYear, String nextFinancialYear,
+                                              BigDecimal principal, BigDecimal newPrincipal, Collection<UUID> memberIds) {
+        touch(null, financialYear);
+        touch(null, nextFinancialYear);
+        loansChanged = true;
+        bulk = true;
+        bulkMemberIds.addAll(memberIds);
+
+        // The old loans stay in the ledger as CARRIED_FORWARD; the new ones are fresh disbursements.
+        // The active count is unchanged since every old loan is replaced by exactly one new loan.
+        loansDisbursed = loansDisbursed.add(newPrincipal);
+        activeLoans = activeLoans.subtract(principal).add(newPrincipal);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return activeDepositsCount == 0 && activeLoansCount == 0
+                && depositCollected.signum() == 0 && depositPrincipalReturned.signum() == 0
+                && depositInterestPaid.signum() == 0 && activeDeposits.signum() == 0
+                && loanRepaymentsReceived.signum() == 0 && loansDisbursed.signum() == 0
+                && loanRepaid.signum() == 0 && loanInterestReceived.signum() == 0
+                && activeLoans.signum() == 0;
+    }
+
+    private LedgerDelta deposit(Deposit deposit, boolean negate) {
+        BigDecimal amount = signed(deposit.getAmount(), negate);
+        String status = deposit.getStatus();
+        touch(deposit.getMember() != null ? deposit.getMember().getId() : null, deposit.getFinancialYear());
+        depositsChanged = true;
+
+        depositCollected = depositCollected.add(amount);
+
+        if ("RETURNED".equals(status) || "SETTLED".equals(status)) {
+            depositPrincipalReturned = depositPrincipalReturned.add(amount);
+            depositInterestPaid = depositInterestPaid.add(signed(deposit.getInterestEarned(), negate));
+        } else if ("ACTIVE".equals(status)) {
+            activeDeposits = activeDeposits.add(amount);
+            activeDepositsCount += negate ? -1 : 1;
+        }
+
+        MemberDelta member = member(deposit.getMember() != null ? deposit.getMember().getId() : null);
+        if (member != null) {
+            member.totalDeposited = member.totalDeposited.add(amount);
+            member.depositCount += negate ? -1 : 1;
+            if ("ACTIVE".equals(status)) {
+                member.activeDeposits = member.activeDeposits.add(amount);
+                member.activeDepositsCount += negate ? -1 : 1;
+            } else {
+                member.depositInterestPaid = member.depositInterestPaid.add(signed(deposit.getInterestEarned(), negate));
+            }
+        }
+        return this;
+    }
+
+    private LedgerDelta loan(Loan loan, boolean negate) {
+        String status = loan.getStatus();
+        touch(loan.getMember() != null ? loan.getMember().getId() : null, loan.getFinancialYear());
+        loansChanged = true;
+
+        loanRepaymentsReceived = loanRepaymentsReceived.add(signed(loan.getPaidAmount(), negate));
+        loansDisbursed = loansDisbursed.add(signed(loan.getLoanAmount(), negate));
+
+        if ("CLOSED".equals(status)) {
+            loanRepaid = loanRepaid.add(signed(loan.getTotalRepayment(), negate));
+        }
+        if ("CLOSED".equals(status) || "SETTLED".equals(status)) {
+            loanInterestReceived = loanInterestReceived.add(signed(loan.getInterestAmount(), negate));
+        }
+        if ("ACTIVE".equals(status)) {
+            activeLoans = activeLoans.add(signed(loan.getLoanAmount(), negate));
+            activeLoansCount += negate ? -1 : 1;
+        }
+
+        MemberDelta member = member(loan.getMember() != null ? loan.getMember().getId() : null);
+        if (member != null) {
+            member.totalBorrowed = member.totalBorrowed.add(signed(loan.getLoanAmount(), negate));
+            member.loanCount += negate ? -1 : 1;
+            member.totalPaid = member.totalPaid.add(signed(loan.getPaidAmount(), negate));
+            member.totalDiscount = member.totalDiscount.add(signed(loan.getDiscountAmount(), negate));
+            if ("ACTIVE".equals(status)) {
+                member.activeLoans = member.activeLoans.add(signed(loan.getLoanAmount(), negate));
+                member.activeLoansCount += negate ? -1 : 1;
+            } else {
+                member.loanInterestPaid = member.loanInterestPaid.add(signed(loan.getInterestAmount(), negate));
+            }
+        }
+        return this;
+    }
+
+    private MemberDelta member(UUID memberId) {
+        return memberId != null ? memberDeltas.computeIfAbsent(memberId, id -> new MemberDelta()) : null;
+    }
+
+    private void touch(UUID memberId, String financialYear) {
+        if (memberId != null) {
+            memberIds.add(memberId);
+        }
+        if (financialYear != null) {
+            financialYears.add(financialYear);
+        }
+    }
+
+    private static BigDecimal signed(BigDecimal value, boolean negate) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return negate ? value.negate() : value;
+    }
+
+    /**
+     * Change to one member's row in member_balances.
+     */
+    @Getter
+    public static class MemberDelta {
+        private BigDecimal totalDeposited = BigDecimal.ZERO;
+        private long depositCount;
+        private BigDecimal activeDeposits = BigDecimal.ZERO;
+        private long activeDepositsCount;
+        private BigDecimal depositInterestPaid = BigDecimal.ZERO;
+        private BigDecimal totalBorrowed = BigDecimal.ZERO;
+        private long loanCount;
+        private BigDecimal activeLoans = BigDecimal.ZERO;
+        private long activeLoansCount;
+        private BigDecimal loanInterestPaid = BigDecimal.ZERO;
+        private BigDecimal totalPaid = BigDecimal.ZERO;
+        private BigDecimal totalDiscount = BigDecimal.ZERO;
+    }
+}
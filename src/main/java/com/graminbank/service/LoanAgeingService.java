@@ -0,0 +1,92 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.LoanAgeingResponse;
+import com.graminbank.dto.response.LoanAgeingResponse.Bucket;
+import com.graminbank.event.LedgerChangedEvent;
+import com.graminbank.repository.LoanRepository;
+import com.graminbank.repository.projection.LoanAgeingBucket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Portfolio-at-risk view of the active loans, bucketed by age in a single query.
+ * The result is cached until the next committed loan write or the next day.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoanAgeingService {
+
+    private static final String[] LABELS = {"0-30", "31-90", "91-180", "180+"};
+    private static final int[] MIN_DAYS = {0, 31, 91, 181};
+    private static final Integer[] MAX_DAYS = {30, 90, 180, null};
+
+    private final LoanRepository loanRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile CachedAgeing current;
+
+    public LoanAgeingResponse getAgeing() {
+        LocalDate today = LocalDate.now();
+        CachedAgeing cached = current;
+        if (cached != null && cached.generation() == generation.get() && today.equals(cached.response().getAsOf())) {
+            return cached.response();
+        }
+
+        long loadGeneration = generation.get();
+        LoanAgeingResponse response = compute(today);
+        current = new CachedAgeing(response, loadGeneration);
+        return response;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        if (event.isLoansChanged()) {
+            generation.incrementAndGet();
+        }
+    }
+
+    private LoanAgeingResponse compute(LocalDate asOf) {
+        LoanAgeingResponse response = new LoanAgeingResponse();
+        response.setAsOf(asOf);
+        for (int i = 0; i < LABELS.length; i++) {
+            Bucket bucket = new Bucket();
+            bucket.setLabel(LABELS[i]);
+            bucket.setMinDays(MIN_DAYS[i]);
+            bucket.setMaxDays(MAX_DAYS[i]);
+            response.getBuckets().add(bucket);
+        }
+
+        BigDecimal atRisk = BigDecimal.ZERO;
+        for (LoanAgeingBucket row : loanRepository.getActiveLoanAgeing(asOf)) {
+            Bucket bucket = response.getBuckets().get(row.getBucket());
+            bucket.setLoanCount(row.getRowCount());
+            bucket.setPrincipal(row.getPrincipal());
+            bucket.setPaidAmount(row.getPaidAmount());
+            bucket.setAccruedInterest(row.getAccruedInterest());
+            bucket.setOutstanding(row.getOutstanding());
+
+            response.setTotalLoans(response.getTotalLoans() + row.getRowCount());
+            response.setTotalPrincipal(response.getTotalPrincipal().add(row.getPrincipal()));
+            response.setTotalAccruedInterest(response.getTotalAccruedInterest().add(row.getAccruedInterest()));
+            response.setTotalOutstanding(response.getTotalOutstanding().add(row.getOutstanding()));
+            if (row.getBucket() > 0) {
+                atRisk = atRisk.add(row.getOutstanding());
+            }
+        }
+
+        if (response.getTotalOutstanding().signum() > 0) {
+            response.setPortfolioAtRisk(atRisk.multiply(BigDecimal.valueOf(100))
+                    .divide(response.getTotalOutstanding(), 2, RoundingMode.HALF_UP));
+        }
+        return response;
+    }
+
+    private record CachedAgeing(LoanAgeingResponse response, long generation) {
+    }
+}
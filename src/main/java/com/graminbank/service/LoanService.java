@@ -6,8 +6,10 @@ import com.graminbank.dto.request.LoanRequest;
 import com.graminbank.dto.request.LoanUpdateRequest;
 import com.graminbank.dto.response.LoanPaymentResponse;
 import com.graminbank.dto.response.LoanResponse;
+import com.graminbank.event.LedgerChangedEvent;
 import com.graminbank.exception.BusinessException;
 import com.graminbank.exception.ResourceNotFoundException;
+import com.graminbank.model.AccrualSnapshot;
 import com.graminbank.model.Loan;
 import com.graminbank.model.LoanPayment;
 import com.graminbank.model.Member;
@@ -15,10 +17,13 @@ import com.graminbank.repository.LoanPaymentRepository;
 import com.graminbank.repository.LoanRepository;
 import com.graminbank.repository.MemberRepository;
 import com.graminbank.util.BankConstants;
+import com.graminbank.util.FinancialYearPeriod;
+import com.graminbank.util.FixedPointInterestCalculator;
 import com.graminbank.util.InterestCalculator;
 import com.graminbank.util.LoanMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -27,6 +32,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -41,6 +47,10 @@ public class LoanService {
     private final LoanRepository loanRepository;
     private final LoanPaymentRepository loanPaymentRepository;
     private final MemberRepository memberRepository;
+    private final BankTotalsService bankTotalsService;
+    private final MemberBalanceService memberBalanceService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AccrualService accrualService;
 
     @Transactional
     public LoanResponse createLoan(LoanRequest request) {
@@ -58,11 +68,15 @@ public class LoanService {
         loan.setLoanAmount(request.getLoanAmount());
         loan.setLoanDate(request.getLoanDate());
         loan.setInterestRate(new BigDecimal("5.0"));
-        loan.setFinancialYear(InterestCalculator.getFinancialYearFromDate(request.getLoanDate()));
+        loan.setFinancialYear(FinancialYearPeriod.of(request.getLoanDate()).getLabel());
         loan.setStatus(BankConstants.ACTIVE);
         loan.setRemainingAmount(request.getLoanAmount());
 
         Loan savedLoan = loanRepository.save(loan);
+        LedgerDelta delta = new LedgerDelta().addLoan(savedLoan);
+        bankTotalsService.apply(delta);
+        memberBalanceService.apply(delta);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
         return convertToResponse(savedLoan);
     }
 
@@ -81,9 +95,11 @@ public class LoanService {
             throw new BusinessException("Loan amount must be greater than 0");
         }
 
+        LedgerDelta delta = new LedgerDelta().removeLoan(loan);
+
         loan.setLoanAmount(request.getLoanAmount());
         loan.setLoanDate(request.getLoanDate());
-        loan.setFinancialYear(InterestCalculator.getFinancialYearFromDate(request.getLoanDate()));
+        loan.setFinancialYear(FinancialYearPeriod.of(request.getLoanDate()).getLabel());
 
         // Recalculate remaining amount
         loan.setRemainingAmount(request.getLoanAmount().subtract(loan.getPaidAmount()));
@@ -95,6 +111,9 @@ public class LoanService {
         }
 
         Loan updatedLoan = loanRepository.save(loan);
+        bankTotalsService.apply(delta.addLoan(updatedLoan));
+        memberBalanceService.apply(delta);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
         return convertToResponse(updatedLoan);
     }
 
@@ -129,6 +148,8 @@ public class LoanService {
             throw new BusinessException("Discount cannot be negative");
         }
 
+        LedgerDelta delta = new LedgerDelta().removeLoan(loan);
+
         // Create payment record
         LoanPayment payment = new LoanPayment();
         payment.setLoan(loan);
@@ -157,6 +178,9 @@ public class LoanService {
         }
 
         loanRepository.save(loan);
+        bankTotalsService.apply(delta.addLoan(loan));
+        memberBalanceService.apply(delta);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
 
         return LoanMapper.convertPaymentToResponse(payment, loan);
     }
@@ -190,6 +214,8 @@ public class LoanService {
         BigDecimal discount = request.getDiscountAmount() != null ?
                 request.getDiscountAmount() : BigDecimal.ZERO;
 
+        LedgerDelta delta = new LedgerDelta().removeLoan(loan);
+
         // If closing with full payment
         if (request.getPaymentAmount() != null) {
             LoanPayment finalPayment = new LoanPayment();
@@ -212,13 +238,17 @@ public class LoanService {
         loan.setRemainingAmount(BigDecimal.ZERO);
 
         Loan closedLoan = loanRepository.save(loan);
+        bankTotalsService.apply(delta.addLoan(closedLoan));
+        memberBalanceService.apply(delta);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
         return LoanMapper.convertToResponse(closedLoan);
     }
 
     public Page<LoanResponse> getLoansByStatus(String status, Pageable pageable) {
-        return ("ALL".equals(status) ? loanRepository.findAllByOrderByLoanDateDesc(pageable)
-                : loanRepository.findByStatusOrderByLoanDateDesc(status, pageable))
-                .map(LoanMapper::convertToResponseWithCurrentInterest);
+        Page<Loan> loans = "ALL".equals(status) ? loanRepository.findAllByOrderByLoanDateDesc(pageable)
+                : loanRepository.findByStatusOrderByLoanDateDesc(status, pageable);
+        Map<UUID, AccrualSnapshot> snapshots = accrualService.findValidLoanSnapshots(loans.getContent());
+        return loans.map(loan -> LoanMapper.convertToResponseWithCurrentInterest(loan, snapshots.get(loan.getId())));
     }
 
     public LoanResponse getLoanById(UUID loanId) {
@@ -232,17 +262,36 @@ public class LoanService {
     public Loan carryForwardLoan(Loan oldLoan, String newFinancialYear, LocalDate carryForwardDate) {
         log.info("Carrying forward loan {} to new financial year {}", oldLoan.getId(), newFinancialYear);
 
-        BigDecimal interest = InterestCalculator.calculateLoanInterest(
+        LedgerDelta delta = new LedgerDelta();
+        Loan newLoan = prepareCarryForward(oldLoan, newFinancialYear, carryForwardDate, delta);
+        loanRepository.save(oldLoan);
+
+        Loan savedLoan = loanRepository.save(newLoan);
+        bankTotalsService.apply(delta.addLoan(savedLoan));
+        memberBalanceService.apply(delta);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
+        return savedLoan;
+    }
+
+    /**
+     * Closes {@code oldLoan} as CARRIED_FORWARD and returns its unsaved successor in the new year.
+     * Records the old loan's change in {@code delta}; the caller saves the new loan, adds it to
+     * the delta and applies it, which lets settlement batch a whole chunk of loans at once.
+     */
+    public Loan prepareCarryForward(Loan oldLoan, String newFinancialYear, LocalDate carryForwardDate, LedgerDelta delta) {
+        BigDecimal interest = FixedPointInterestCalculator.calculateLoanInterest(
                 oldLoan.getLoanAmount(),
                 oldLoan.getLoanDate(),
                 carryForwardDate
         );
 
+        delta.removeLoan(oldLoan);
+
         oldLoan.setInterestAmount(interest);
         oldLoan.setTotalRepayment(oldLoan.getLoanAmount().add(interest));
         oldLoan.setStatus("CARRIED_FORWARD");
         oldLoan.setReturnDate(carryForwardDate);
-        loanRepository.save(oldLoan);
+        delta.addLoan(oldLoan);
 
         BigDecimal newLoanAmount = oldLoan.getLoanAmount().add(interest).subtract(oldLoan.getPaidAmount());
 
@@ -254,8 +303,8 @@ public class LoanService {
         newLoan.setFinancialYear(newFinancialYear);
         newLoan.setStatus("ACTIVE");
         newLoan.setRemainingAmount(newLoanAmount);
-
-        return loanRepository.save(newLoan);
+        newLoan.setCarriedForwardFrom(oldLoan.getId());
+        return newLoan;
     }
 
 
@@ -0,0 +1,46 @@
+package com.graminbank.service;
+
+import com.graminbank.util.NameMaskingUtil;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-member cache of masked display names for the public lists.
+ * Entries remember the source names, so a rename is picked up even before
+ * {@link #evict(UUID)} runs.
+ */
+@Component
+public class MaskedNameCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<UUID, Entry> cache = new ConcurrentHashMap<>();
+
+    public String get(UUID memberId, String firstName, String lastName) {
+        Entry entry = cache.get(memberId);
+        if (entry != null && entry.matches(firstName, lastName)) {
+            return entry.masked;
+        }
+
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+        entry = new Entry(firstName, lastName, NameMaskingUtil.maskName(firstName, lastName));
+        cache.put(memberId, entry);
+        return entry.masked;
+    }
+
+    public void evict(UUID memberId) {
+        cache.remove(memberId);
+    }
+
+    private record Entry(String firstName, String lastName, String masked) {
+        boolean matches(String first, String last) {
+            return Objects.equals(firstName, first) && Objects.equals(lastName, last);
+        }
+    }
+}
@@ -6,12 +6,17 @@ import com.graminbank.dto.response.LoanResponse;
 import com.graminbank.dto.response.MemberAuthResponse;
 import com.graminbank.dto.response.MemberDashboardResponse;
 import com.graminbank.exception.AuthenticationException;
+import com.graminbank.model.AccrualSnapshot;
+import com.graminbank.model.Deposit;
+import com.graminbank.model.Loan;
 import com.graminbank.model.Member;
+import com.graminbank.model.MemberBalance;
 import com.graminbank.repository.DepositRepository;
 import com.graminbank.repository.LoanRepository;
 import com.graminbank.repository.MemberRepository;
+import com.graminbank.security.MemberRoleCache;
+import com.graminbank.service.MemberViewCacheService.CachedView;
 import com.graminbank.util.DepositMapper;
-import com.graminbank.util.InterestCalculator;
 import com.graminbank.util.JwtUtil;
 import com.graminbank.util.LoanMapper;
 import lombok.RequiredArgsConstructor;
@@ -19,9 +24,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static com.graminbank.util.BankConstants.ACTIVE;
@@ -35,6 +41,8 @@ public class MemberAuthService {
     private final DepositRepository depositRepository;
     private final LoanRepository loanRepository;
     private final JwtUtil jwtUtil;
+    private final AccrualService accrualService;
+    private final MemberViewCacheService memberViewCacheService;
     private final LoginAttemptService loginAttemptService; // NEW: Inject the helper service
 
     public MemberAuthResponse authenticate(MemberLoginRequest request) {
@@ -90,7 +98,7 @@ public class MemberAuthService {
             log.error("Error recording successful login for member: {}", member.getId(), e);
         }
 
-        String token = jwtUtil.generateToken("MEMBER_" + member.getId().toString());
+        String token = jwtUtil.generateToken("MEMBER_" + member.getId().toString(), MemberRoleCache.rolesOf(member));
 
         MemberAuthResponse response = new MemberAuthResponse();
         response.setToken(token);
@@ -102,72 +110,100 @@ public class MemberAuthService {
         return response;
     }
 
-    public MemberDashboardResponse getMemberDashboard(UUID memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new RuntimeException("Member not found"));
+    /**
+     * The member's dashboard with its ETag, served from {@link MemberViewCacheService}
+     * until the member's balance version or the date moves.
+     */
+    public CachedView<MemberDashboardResponse> getMemberDashboard(UUID memberId) {
+        return memberViewCacheService.get(memberId, "dashboard", MemberDashboardResponse.class,
+                balance -> buildMemberDashboard(memberId, balance));
+    }
 
-        List<DepositResponse> deposits = depositRepository.findByMemberId(memberId).stream()
-                .map(DepositMapper::convertToResponseWithCurrentInterest).toList();
-        List<LoanResponse> loans = loanRepository.findByMemberId(memberId).stream()
-                .map(LoanMapper::convertToResponseWithCurrentInterest).toList();
+    /**
+     * Built from two fetch-joined queries (deposits and loans with their member) and one
+     * accrual snapshot lookup. Each row is mapped once; lifetime and active totals come
+     * from the member's balance row, already read for the cache tag, and today's interest
+     * is folded from the mapped rows.
+     */
+    private MemberDashboardResponse buildMemberDashboard(UUID memberId, MemberBalance balance) {
+        List<Deposit> depositRows = depositRepository.findByMemberIdWithMember(memberId);
+        List<Loan> loanRows = loanRepository.findByMemberIdWithMember(memberId);
+        Member member = !depositRows.isEmpty() ? depositRows.get(0).getMember()
+                : !loanRows.isEmpty() ? loanRows.get(0).getMember()
+                : memberRepository.findById(memberId).orElseThrow(() -> new RuntimeException("Member not found"));
+        Map<UUID, AccrualSnapshot> snapshots = accrualService.findValidSnapshots(depositRows, loanRows);
+
+        DashboardTotals totals = new DashboardTotals();
+        List<DepositResponse> deposits = new ArrayList<>(depositRows.size());
+        for (Deposit row : depositRows) {
+            DepositResponse deposit = DepositMapper.convertToResponseWithCurrentInterest(row, snapshots.get(row.getId()));
+            totals.add(deposit);
+            deposits.add(deposit);
+        }
+        List<LoanResponse> loans = new ArrayList<>(loanRows.size());
+        for (Loan row : loanRows) {
+            LoanResponse loan = LoanMapper.convertToResponseWithCurrentInterest(row, snapshots.get(row.getId()));
+            totals.add(loan);
+            loans.add(loan);
+        }
 
         MemberDashboardResponse response = new MemberDashboardResponse();
         response.setMemberName(member.getFirstName() + " " + member.getLastName());
         response.setPhone(member.getPhone());
-
-        // Calculate totals
-        BigDecimal totalDeposited = deposits.stream()
-                .map(DepositResponse::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalBorrowed = loans.stream()
-                .map(LoanResponse::getLoanAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalDepositInterest = deposits.stream()
-                .filter(d -> !ACTIVE.equals(d.getStatus()))
-                .map(DepositResponse::getInterestEarned)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalLoanInterest = loans.stream()
-                .filter(l -> !ACTIVE.equals(l.getStatus()))
-                .map(LoanResponse::getInterestAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // Current amounts (active only)
-        BigDecimal currentDeposits = deposits.stream()
-                .filter(d -> ACTIVE.equals(d.getStatus()))
-                .map(DepositResponse::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal currentLoans = loans.stream()
-                .filter(l -> ACTIVE.equals(l.getStatus()))
-                .map(LoanResponse::getLoanAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // Calculate current interest for active items
-        BigDecimal currentDepositInterest = deposits.stream()
-                .filter(d -> ACTIVE.equals(d.getStatus()))
-                .map(d -> InterestCalculator.calculateDepositInterest(
-                        d.getAmount(), d.getDepositDate(), LocalDate.now()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal currentLoanInterest = loans.stream()
-                .filter(l -> ACTIVE.equals(l.getStatus()))
-                .map(l -> InterestCalculator.calculateLoanInterest(
-                        l.getLoanAmount(), l.getLoanDate(), LocalDate.now()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        response.setTotalDeposited(totalDeposited);
-        response.setTotalBorrowed(totalBorrowed);
-        response.setTotalDepositInterestEarned(totalDepositInterest);
-        response.setTotalLoanInterestPaid(totalLoanInterest);
-        response.setCurrentDeposits(currentDeposits);
-        response.setCurrentLoans(currentLoans);
-        response.setCurrentDepositInterest(currentDepositInterest);
-        response.setCurrentLoanInterest(currentLoanInterest);
+        if (balance != null) {
+            response.setTotalDeposited(balance.getTotalDeposited());
+            response.setTotalBorrowed(balance.getTotalBorrowed());
+            response.setTotalDepositInterestEarned(balance.getDepositInterestPaid());
+            response.setTotalLoanInterestPaid(balance.getLoanInterestPaid());
+            response.setCurrentDeposits(balance.getActiveDeposits());
+            response.setCurrentLoans(balance.getActiveLoans());
+        } else {
+            response.setTotalDeposited(totals.totalDeposited);
+            response.setTotalBorrowed(totals.totalBorrowed);
+            response.setTotalDepositInterestEarned(totals.totalDepositInterest);
+            response.setTotalLoanInterestPaid(totals.totalLoanInterest);
+            response.setCurrentDeposits(totals.currentDeposits);
+            response.setCurrentLoans(totals.currentLoans);
+        }
+        response.setCurrentDepositInterest(totals.currentDepositInterest);
+        response.setCurrentLoanInterest(totals.currentLoanInterest);
         response.setDeposits(deposits);
         response.setLoans(loans);
         return response;
     }
-}
\ No newline at end of file
+
+    /**
+     * Dashboard totals folded from the mapped rows. For ACTIVE rows the mappers have already
+     * put today's interest in interestEarned (deposits) and currentInterest (loans).
+     */
+    private static class DashboardTotals {
+        private BigDecimal totalDeposited = BigDecimal.ZERO;
+        private BigDecimal totalBorrowed = BigDecimal.ZERO;
+        private BigDecimal totalDepositInterest = BigDecimal.ZERO;
+        private BigDecimal totalLoanInterest = BigDecimal.ZERO;
+        private BigDecimal currentDeposits = BigDecimal.ZERO;
+        private BigDecimal currentLoans = BigDecimal.ZERO;
+        private BigDecimal currentDepositInterest = BigDecimal.ZERO;
+        private BigDecimal currentLoanInterest = BigDecimal.ZERO;
+
+        void add(DepositResponse deposit) {
+            totalDeposited = totalDeposited.add(deposit.getAmount());
+            if (ACTIVE.equals(deposit.getStatus())) {
+                currentDeposits = currentDeposits.add(deposit.getAmount());
+                currentDepositInterest = currentDepositInterest.add(deposit.getInterestEarned());
+            } else {
+                totalDepositInterest = totalDepositInterest.add(deposit.getInterestEarned());
+            }
+        }
+
+        void add(LoanResponse loan) {
+            totalBorrowed = totalBorrowed.add(loan.getLoanAmount());
+            if (ACTIVE.equals(loan.getStatus())) {
+                currentLoans = currentLoans.add(loan.getLoanAmount());
+                currentLoanInterest = currentLoanInterest.add(loan.getCurrentInterest());
+            } else {
+                totalLoanInterest = totalLoanInterest.add(loan.getInterestAmount());
+            }
+        }
+    }
+}
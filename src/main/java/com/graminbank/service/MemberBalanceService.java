@@ -0,0 +1,124 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.MemberBalanceVerifyResponse;
+import com.graminbank.model.MemberBalance;
+import com.graminbank.repository.MemberBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Maintains member_balances. Writers call {@link #apply(LedgerDelta)} inside their own
+ * transaction, next to {@link BankTotalsService#apply(LedgerDelta)}; readers get a member's
+ * totals with a single primary-key lookup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberBalanceService {
+
+    private static final int MAX_REPORTED_DRIFT = 100;
+
+    private final MemberBalanceRepository memberBalanceRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void apply(LedgerDelta delta) {
+        if (delta.isBulk()) {
+            // Set-based writes report which members they touched; recompute just those, in id order
+            UUID[] memberIds = delta.getBulkMemberIds().stream().sorted().toArray(UUID[]::new);
+            int rows = memberIds.length == 0 ? 0 : memberBalanceRepository.rebuildMembers(memberIds);
+            log.info("Rebuilt {} member balances after a bulk ledger write", rows);
+            return;
+        }
+
+        for (Map.Entry<UUID, LedgerDelta.MemberDelta> entry : delta.getMemberDeltas().entrySet()) {
+            // Applied even when the totals don't move (e.g. a date edit) so the member's version is bumped
+            LedgerDelta.MemberDelta change = entry.getValue();
+            int updated = memberBalanceRepository.applyDelta(
+                    entry.getKey(),
+                    change.getTotalDeposited(),
+                    change.getDepositCount(),
+                    change.getActiveDeposits(),
+                    change.getActiveDepositsCount(),
+                    change.getDepositInterestPaid(),
+                    change.getTotalBorrowed(),
+                    change.getLoanCount(),
+                    change.getActiveLoans(),
+                    change.getActiveLoansCount(),
+                    change.getLoanInterestPaid(),
+                    change.getTotalPaid(),
+                    change.getTotalDiscount()
+            );
+            if (updated == 0) {
+                // First write for this member: seed the row from the ledger, which already includes this write
+                memberBalanceRepository.rebuild(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * The member's balance row, seeded from the ledger if it does not exist yet.
+     * Empty only for an unknown member.
+     */
+    @Transactional
+    public Optional<MemberBalance> getBalance(UUID memberId) {
+        Optional<MemberBalance> balance = memberBalanceRepository.findById(memberId);
+        if (balance.isPresent()) {
+            return balance;
+        }
+        memberBalanceRepository.rebuild(memberId);
+        return memberBalanceRepository.findById(memberId);
+    }
+
+    /**
+     * Bumps the member's version for changes outside the ledger that show up on the
+     * dashboard or statement, such as the member's name.
+     */
+    @Transactional
+    public void touch(UUID memberId) {
+        memberBalanceRepository.bumpVersion(memberId);
+    }
+
+    @Transactional(readOnly = true)
+    public MemberBalanceVerifyResponse verify() {
+        return toResponse(memberBalanceRepository.findDriftedMemberIds(), false);
+    }
+
+    /**
+     * Recomputes every member's balance from the ledger, reporting which ones had drifted.
+     */
+    @Transactional
+    public MemberBalanceVerifyResponse rebuild() {
+        lockForRebuild();
+        List<UUID> drifted = memberBalanceRepository.findDriftedMemberIds();
+        memberBalanceRepository.rebuildAll();
+        return toResponse(drifted, true);
+    }
+
+    // Waits for in-flight writers and keeps new ones out until the rebuild commits
+    private void lockForRebuild() {
+        jdbcTemplate.execute("LOCK TABLE member_balances IN SHARE ROW EXCLUSIVE MODE");
+    }
+
+    private MemberBalanceVerifyResponse toResponse(List<UUID> drifted, boolean rebuilt) {
+        MemberBalanceVerifyResponse response = new MemberBalanceVerifyResponse();
+        response.setDriftDetected(!drifted.isEmpty());
+        response.setDriftCount(drifted.size());
+        response.setDriftedMemberIds(drifted.subList(0, Math.min(drifted.size(), MAX_REPORTED_DRIFT)));
+        response.setRebuilt(rebuilt);
+        response.setCheckedAt(LocalDateTime.now());
+        if (response.isDriftDetected()) {
+            log.warn("member_balances drift detected for {} members", drifted.size());
+        }
+        return response;
+    }
+}
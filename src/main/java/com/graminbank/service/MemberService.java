@@ -7,6 +7,7 @@ import com.graminbank.exception.BusinessException;
 import com.graminbank.exception.ResourceNotFoundException;
 import com.graminbank.model.Member;
 import com.graminbank.repository.MemberRepository;
+import com.graminbank.security.MemberRoleCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,6 +24,9 @@ import java.util.stream.Collectors;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final MaskedNameCache maskedNameCache;
+    private final MemberBalanceService memberBalanceService;
+    private final MemberRoleCache memberRoleCache;
 
     @Transactional
     public MemberResponse createMember(MemberRequest request) {
@@ -74,6 +78,9 @@ public class MemberService {
         member.setIsOperator(request.getIsOperator());
 
         Member updatedMember = memberRepository.save(member);
+        maskedNameCache.evict(id);
+        memberBalanceService.touch(id);
+        memberRoleCache.evict(id);
         return convertToResponse(updatedMember);
     }
 
@@ -83,6 +90,7 @@ public class MemberService {
                 .orElseThrow(() -> new ResourceNotFoundException("Member not found with id: " + id));
         member.setIsActive(false);
         memberRepository.save(member);
+        memberRoleCache.evict(id);
     }
 
     @Transactional
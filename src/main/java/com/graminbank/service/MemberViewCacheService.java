@@ -0,0 +1,77 @@
+package com.graminbank.service;
+
+import com.graminbank.model.MemberBalance;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-memory cache of per-member views (dashboard, statement pages). An entry is tagged
+ * with the member's member_balances version, which every write touching the member bumps,
+ * so a version lookup by primary key is enough to tell whether the cached view is current.
+ * The same tag is the view's ETag.
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberViewCacheService {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final MemberBalanceService memberBalanceService;
+
+    private final Map<String, CachedView<?>> views = new ConcurrentHashMap<>();
+
+    /**
+     * The cached view, or a fresh one from {@code loader}. The loader gets the balance row
+     * the tag was read from, so it need not look it up again; null for an unknown member.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CachedView<T> get(UUID memberId, String view, Class<T> type, Function<MemberBalance, T> loader) {
+        MemberBalance balance = memberBalanceService.getBalance(memberId).orElse(null);
+        if (balance == null) {
+            // Unknown member; let the loader raise its not-found error
+            return new CachedView<>(loader.apply(null), null);
+        }
+
+        String etag = etag(memberId, balance);
+        String key = memberId + ":" + view;
+        CachedView<?> cached = views.get(key);
+        if (cached != null && etag.equals(cached.getEtag()) && type.isInstance(cached.getBody())) {
+            return (CachedView<T>) cached;
+        }
+
+        CachedView<T> loaded = new CachedView<>(loader.apply(balance), etag);
+        if (views.size() >= MAX_ENTRIES) {
+            views.clear();
+        }
+        views.put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * Version plus, while the member has ACTIVE rows, today's date: those rows show interest
+     * accrued in 30-day buckets and a running duration in days, so their figures can change
+     * overnight without any write. Members with nothing active keep one tag until the next write.
+     */
+    private static String etag(UUID memberId, MemberBalance balance) {
+        boolean accruing = balance.getActiveDepositsCount() > 0 || balance.getActiveLoansCount() > 0;
+        return "\"" + memberId + "-" + balance.getVersion() + (accruing ? "-" + LocalDate.now() : "") + "\"";
+    }
+
+    @Getter
+    public static class CachedView<T> {
+        private final T body;
+        private final String etag;
+
+        CachedView(T body, String etag) {
+            this.body = body;
+            this.etag = etag;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.MonthlyClosingResponse;
+import com.graminbank.model.MonthlyClosing;
+import com.graminbank.repository.DepositRepository;
+import com.graminbank.repository.LoanPaymentRepository;
+import com.graminbank.repository.LoanRepository;
+import com.graminbank.repository.MonthlyClosingRepository;
+import com.graminbank.repository.projection.DepositAggregate;
+import com.graminbank.repository.projection.LoanAggregate;
+import com.graminbank.repository.projection.MovementTotals;
+import com.graminbank.util.FinancialYearPeriod;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static com.graminbank.util.BankConstants.ACTIVE;
+
+/**
+ * Month-end close. Freezes the month's deposit, loan and repayment movements with running
+ * financial year totals, the ACTIVE book and the interest it would settle at on the year end
+ * date. The close is reporting only; year-end settlement does not read it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyClosingService {
+
+    private final MonthlyClosingRepository monthlyClosingRepository;
+    private final DepositRepository depositRepository;
+    private final LoanRepository loanRepository;
+    private final LoanPaymentRepository loanPaymentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${closing.cron:0 30 0 1 * *}")
+    public void closePreviousMonth() {
+        closeMonth(YearMonth.now().minusMonths(1));
+    }
+
+    /**
+     * Closes {@code month}, replacing its closing if it was closed before.
+     */
+    public MonthlyClosing closeMonth(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.atEndOfMonth();
+        FinancialYearPeriod period = FinancialYearPeriod.of(from);
+        String financialYear = period.getLabel();
+        LocalDateTime closedAt = LocalDateTime.now();
+        long started = System.currentTimeMillis();
+
+        MonthlyClosing closing = transactionTemplate.execute(status -> {
+            MonthlyClosing current = monthlyClosingRepository.findByClosingMonth(from).orElseGet(MonthlyClosing::new);
+            current.setFinancialYear(financialYear);
+            current.setClosingMonth(from);
+            current.setClosedAt(closedAt);
+
+            MovementTotals deposited = depositRepository.sumDepositedBetween(from, to);
+            MovementTotals disbursed = loanRepository.sumDisbursedBetween(from, to);
+            current.setDepositsCollected(deposited.getTotalAmount());
+            current.setDepositsCount(deposited.getRowCount());
+            current.setLoansDisbursed(disbursed.getTotalAmount());
+            current.setLoansCount(disbursed.getRowCount());
+            current.setLoanRepayments(loanPaymentRepository.sumPaymentsBetween(from, to));
+
+            // Summed from the start of the financial year, so a skipped or re-closed month cannot skew them
+            LocalDate yearStart = period.getStartDate();
+            current.setYtdDepositsCollected(depositRepository.sumDepositedBetween(yearStart, to).getTotalAmount());
+            current.setYtdLoansDisbursed(loanRepository.sumDisbursedBetween(yearStart, to).getTotalAmount());
+            current.setYtdLoanRepayments(loanPaymentRepository.sumPaymentsBetween(yearStart, to));
+
+            current.setActiveDeposits(BigDecimal.ZERO);
+            current.setActiveDepositsCount(0L);
+            current.setActiveLoans(BigDecimal.ZERO);
+            current.setActiveLoansCount(0L);
+            for (DepositAggregate aggregate : depositRepository.aggregateByStatusForFinancialYear(financialYear)) {
+                if (ACTIVE.equals(aggregate.getStatus())) {
+                    current.setActiveDeposits(aggregate.getTotalAmount());
+                    current.setActiveDepositsCount(aggregate.getRowCount());
+                }
+            }
+            for (LoanAggregate aggregate : loanRepository.aggregateByStatusForFinancialYear(financialYear)) {
+                if (ACTIVE.equals(aggregate.getStatus())) {
+                    current.setActiveLoans(aggregate.getTotalLoanAmount());
+                    current.setActiveLoansCount(aggregate.getRowCount());
+                }
+            }
+
+            current.setProjectedDepositInterest(
+                    depositRepository.sumActiveDepositInterest(financialYear, period.getEndDate()));
+            current.setProjectedLoanInterest(
+                    loanRepository.sumActiveLoanInterest(financialYear, period.getEndDate()));
+            return monthlyClosingRepository.save(current);
+        });
+
+        log.info("Closed {} in {} ms, projected year-end interest {} deposits / {} loans",
+                month, System.currentTimeMillis() - started,
+                closing.getProjectedDepositInterest(), closing.getProjectedLoanInterest());
+        return closing;
+    }
+
+    public List<MonthlyClosingResponse> getClosings(String financialYear) {
+        return monthlyClosingRepository.findByFinancialYearOrderByClosingMonth(financialYear).stream()
+                .map(this::convertToResponse)
+                .toList();
+    }
+
+    public MonthlyClosingResponse convertToResponse(MonthlyClosing closing) {
+        MonthlyClosingResponse response = new MonthlyClosingResponse();
+        response.setFinancialYear(closing.getFinancialYear());
+        response.setClosingMonth(closing.getClosingMonth());
+        response.setClosedAt(closing.getClosedAt());
+        response.setDepositsCollected(closing.getDepositsCollected());
+        response.setDepositsCount(closing.getDepositsCount());
+        response.setLoansDisbursed(closing.getLoansDisbursed());
+        response.setLoansCount(closing.getLoansCount());
+        response.setLoanRepayments(closing.getLoanRepayments());
+        response.setYtdDepositsCollected(closing.getYtdDepositsCollected());
+        response.setYtdLoansDisbursed(closing.getYtdLoansDisbursed());
+        response.setYtdLoanRepayments(closing.getYtdLoanRepayments());
+        response.setActiveDeposits(closing.getActiveDeposits());
+        response.setActiveDepositsCount(closing.getActiveDepositsCount());
+        response.setActiveLoans(closing.getActiveLoans());
+        response.setActiveLoansCount(closing.getActiveLoansCount());
+        response.setProjectedDepositInterest(closing.getProjectedDepositInterest());
+        response.setProjectedLoanInterest(closing.getProjectedLoanInterest());
+        return response;
+    }
+}
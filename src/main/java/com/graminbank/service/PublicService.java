@@ -1,140 +1,146 @@
 package com.graminbank.service;
 
+import com.graminbank.dto.response.CursorPageResponse;
 import com.graminbank.dto.response.MaskedDepositResponse;
 import com.graminbank.dto.response.MaskedLoanResponse;
 import com.graminbank.dto.response.SummaryResponse;
-import com.graminbank.model.Deposit;
-import com.graminbank.model.Loan;
+import com.graminbank.exception.BusinessException;
 import com.graminbank.repository.DepositRepository;
 import com.graminbank.repository.LoanRepository;
-import com.graminbank.util.NameMaskingUtil;
+import com.graminbank.repository.projection.MaskedDepositRow;
+import com.graminbank.repository.projection.MaskedLoanRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class PublicService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final DepositRepository depositRepository;
     private final LoanRepository loanRepository;
+    private final BankTotalsService bankTotalsService;
+    private final MaskedNameCache maskedNameCache;
 
     public SummaryResponse getSummary() {
-        // Get ALL deposits and loans
-        List<Deposit> allDeposits = depositRepository.findAll();
-        List<Loan> allLoans = loanRepository.findAll();
-
-        // === CASH INFLOWS ===
-        // 1. Total collected from deposits (principal only)
-        BigDecimal totalDepositCollected = allDeposits.stream()
-                .map(Deposit::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 2. Total loan repayments received (includes principal + interest from borrowers)
-        BigDecimal totalLoanRepaymentsReceived = allLoans.stream()
-                .map(Loan::getPaidAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // === CASH OUTFLOWS ===
-        // 3. Total loans disbursed (money given out as loans)
-        BigDecimal totalLoansDisbursed = allLoans.stream()
-                .map(Loan::getLoanAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 4a. Total deposit principal returned to depositors
-        BigDecimal totalLoanRepaid = allLoans.stream()
-                .filter(d -> "CLOSED".equals(d.getStatus()))
-                .map(Loan::getTotalRepayment)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 4a. Total deposit principal returned to depositors
-        BigDecimal totalDepositPrincipalReturned = allDeposits.stream()
-                .filter(d -> "RETURNED".equals(d.getStatus()) || "SETTLED".equals(d.getStatus()))
-                .map(Deposit::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // 4b. Total deposit interest paid to depositors
-        BigDecimal totalDepositInterestPaid = allDeposits.stream()
-                .filter(d -> "RETURNED".equals(d.getStatus()) || "SETTLED".equals(d.getStatus()))
-                .map(d -> d.getInterestEarned() != null ? d.getInterestEarned() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // === AVAILABLE BALANCE CALCULATION ===
-        // Money In: Deposits collected + Loan repayments
-        // Money Out: Loans disbursed + Deposit principal returned + Deposit interest paid
-        BigDecimal availableBalance = totalDepositCollected
-                .add(totalLoanRepaymentsReceived)
-                .add(totalLoanRepaid)
-                .subtract(totalLoansDisbursed)
-                .subtract(totalDepositPrincipalReturned)
-                .subtract(totalDepositInterestPaid);
-
-        // === BANK PROFIT CALCULATION ===
-        // Total interest received from loans (5% per month)
-        BigDecimal totalLoanInterestReceived = allLoans.stream()
-                .filter(l -> "CLOSED".equals(l.getStatus()) || "SETTLED".equals(l.getStatus()))
-                .map(Loan::getInterestAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        // Bank's profit = (5% loan interest received) - (2.5% deposit interest paid)
-        BigDecimal bankProfit = totalLoanInterestReceived.subtract(totalDepositInterestPaid);
-
-        // Active counts and amounts
-        Long activeDepositsCount = depositRepository.countByStatus("ACTIVE");
-        Long activeLoansCount = loanRepository.countByStatus("ACTIVE");
-        BigDecimal activeDeposits = depositRepository.getTotalDepositsByStatus("ACTIVE");
-        BigDecimal activeLoans = loanRepository.getTotalLoansByStatus("ACTIVE");
-
-        SummaryResponse response = new SummaryResponse();
-        response.setTotalDeposits(activeDeposits);
-        response.setTotalLoans(activeLoans);
-        response.setAvailableBalance(availableBalance);
-        response.setBankProfit(bankProfit);
-        response.setActiveDepositsCount(activeDepositsCount);
-        response.setActiveLoansCount(activeLoansCount);
-        response.setFinancialYear(String.valueOf(LocalDate.now().getYear()));
-
-        return response;
+        return bankTotalsService.toSummary(bankTotalsService.getTotals());
     }
 
     public Page<MaskedDepositResponse> getMaskedDeposits(Pageable pageable) {
-        return depositRepository.findAll(pageable)
+        return depositRepository.findMaskedRows(pageable)
                 .map(this::convertToMaskedResponse);
     }
 
     public Page<MaskedLoanResponse> getMaskedLoans(Pageable pageable) {
-        return loanRepository.findAll(pageable)
+        return loanRepository.findMaskedRows(pageable)
                 .map(this::convertToMaskedResponse);
     }
 
-    private MaskedDepositResponse convertToMaskedResponse(Deposit deposit) {
+    /**
+     * Keyset page of deposits ordered by (depositDate, id) descending.
+     * An empty cursor starts from the newest deposit.
+     */
+    public CursorPageResponse<MaskedDepositResponse> getMaskedDeposits(String cursor, int size) {
+        checkPageSize(size);
+        // Fetch one extra row to know whether another page exists
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<MaskedDepositRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = depositRepository.findMaskedRowsFirst(limit);
+        } else {
+            Cursor after = Cursor.parse(cursor);
+            rows = depositRepository.findMaskedRowsAfter(after.date(), after.id(), limit);
+        }
+
+        List<MaskedDepositResponse> content = rows.stream()
+                .limit(size)
+                .map(this::convertToMaskedResponse)
+                .toList();
+        String nextCursor = null;
+        if (rows.size() > size) {
+            MaskedDepositResponse last = content.get(content.size() - 1);
+            nextCursor = new Cursor(last.getDepositDate(), last.getId()).toString();
+        }
+        return new CursorPageResponse<>(content, nextCursor, size);
+    }
+
+    /**
+     * Keyset page of loans ordered by (loanDate, id) descending.
+     * An empty cursor starts from the newest loan.
+     */
+    public CursorPageResponse<MaskedLoanResponse> getMaskedLoans(String cursor, int size) {
+        checkPageSize(size);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<MaskedLoanRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = loanRepository.findMaskedRowsFirst(limit);
+        } else {
+            Cursor after = Cursor.parse(cursor);
+            rows = loanRepository.findMaskedRowsAfter(after.date(), after.id(), limit);
+        }
+
+        List<MaskedLoanResponse> content = rows.stream()
+                .limit(size)
+                .map(this::convertToMaskedResponse)
+                .toList();
+        String nextCursor = null;
+        if (rows.size() > size) {
+            MaskedLoanResponse last = content.get(content.size() - 1);
+            nextCursor = new Cursor(last.getLoanDate(), last.getId()).toString();
+        }
+        return new CursorPageResponse<>(content, nextCursor, size);
+    }
+
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BusinessException("size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+    }
+
+    private MaskedDepositResponse convertToMaskedResponse(MaskedDepositRow row) {
         MaskedDepositResponse response = new MaskedDepositResponse();
-        response.setId(deposit.getId());
-        response.setMemberName(NameMaskingUtil.maskName(
-                deposit.getMember().getFirstName(),
-                deposit.getMember().getLastName()
-        ));
-        response.setAmount(deposit.getAmount());
-        response.setDepositDate(deposit.getDepositDate());
-        response.setStatus(deposit.getStatus());
+        response.setId(row.getId());
+        response.setMemberName(maskedNameCache.get(row.getMemberId(), row.getFirstName(), row.getLastName()));
+        response.setAmount(row.getAmount());
+        response.setDepositDate(row.getDepositDate());
+        response.setStatus(row.getStatus());
         return response;
     }
 
-    private MaskedLoanResponse convertToMaskedResponse(Loan loan) {
+    private MaskedLoanResponse convertToMaskedResponse(MaskedLoanRow row) {
         MaskedLoanResponse response = new MaskedLoanResponse();
-        response.setId(loan.getId());
-        response.setMemberName(NameMaskingUtil.maskName(
-                loan.getMember().getFirstName(),
-                loan.getMember().getLastName()
-        ));
-        response.setLoanAmount(loan.getLoanAmount());
-        response.setLoanDate(loan.getLoanDate());
-        response.setStatus(loan.getStatus());
+        response.setId(row.getId());
+        response.setMemberName(maskedNameCache.get(row.getMemberId(), row.getFirstName(), row.getLastName()));
+        response.setLoanAmount(row.getLoanAmount());
+        response.setLoanDate(row.getLoanDate());
+        response.setStatus(row.getStatus());
         return response;
     }
-}
\ No newline at end of file
+
+    // Opaque-enough cursor: "<date>_<id>" of the last row on the previous page
+    private record Cursor(LocalDate date, UUID id) {
+
+        static Cursor parse(String value) {
+            int separator = value.indexOf('_');
+            try {
+                return new Cursor(LocalDate.parse(value.substring(0, separator)),
+                        UUID.fromString(value.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BusinessException("Invalid cursor: " + value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return date + "_" + id;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.graminbank.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.graminbank.event.LedgerChangedEvent;
+import com.graminbank.model.FinancialYear;
+import com.graminbank.model.ReportCacheEntry;
+import com.graminbank.repository.FinancialYearRepository;
+import com.graminbank.repository.ReportCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Result cache for reports, keyed by report type, financial year and parameters.
+ * Reports of a settled year (its FinancialYear row has a settlement date) cannot change:
+ * they are pinned in memory and persisted to report_cache. Everything else is kept for a
+ * short TTL and dropped after commit of any ledger write touching its year.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportCacheService {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    // Stands in for the year of reports spanning all years
+    private static final String ALL_YEARS = "*";
+
+    private final ReportCacheRepository reportCacheRepository;
+    private final FinancialYearRepository financialYearRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${report.cache.open-year-ttl-seconds:60}")
+    private long openYearTtlSeconds;
+
+    private final Map<String, Object> pinned = new ConcurrentHashMap<>();
+    private final Map<String, OpenEntry> open = new ConcurrentHashMap<>();
+    private final Set<String> closedYears = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Cached report for the key, computing it with {@code loader} on a miss.
+     * A null {@code financialYear} means the report spans all years.
+     */
+    public <T> T get(String reportType, String financialYear, String params, Class<T> type, Supplier<T> loader) {
+        String year = financialYear != null ? financialYear : ALL_YEARS;
+        String key = reportType + ":" + year + ":" + params;
+
+        Object hit = pinned.get(key);
+        if (hit != null) {
+            return type.cast(hit);
+        }
+        OpenEntry entry = open.get(key);
+        if (entry != null && System.nanoTime() < entry.expiresAtNanos()) {
+            return type.cast(entry.value());
+        }
+
+        if (isClosed(year)) {
+            T stored = readPersisted(key, type);
+            if (stored == null) {
+                stored = loader.get();
+                persist(key, reportType, year, stored);
+            }
+            evictIfFull(pinned);
+            pinned.put(key, stored);
+            return stored;
+        }
+
+        // A write committed while loading may not be in the value; serve it but don't keep it
+        long loadGeneration = generation.get();
+        T value = loader.get();
+        if (loadGeneration == generation.get()) {
+            evictIfFull(open);
+            open.put(key, new OpenEntry(value, year, System.nanoTime() + openYearTtlSeconds * 1_000_000_000L));
+        }
+        return value;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        Set<String> years = event.getFinancialYears();
+        generation.incrementAndGet();
+        open.values().removeIf(e -> ALL_YEARS.equals(e.year()) || years.contains(e.year()));
+
+        for (String year : years) {
+            if (closedYears.remove(year)) {
+                // A settled year should not be written to, but never serve a report the write changed
+                log.warn("Ledger write touched settled year {}, dropping its cached reports", year);
+                pinned.keySet().removeIf(key -> year.equals(key.split(":", 3)[1]));
+                requiresNew().executeWithoutResult(status -> reportCacheRepository.deleteByFinancialYear(year));
+            }
+        }
+    }
+
+    private boolean isClosed(String year) {
+        if (ALL_YEARS.equals(year)) {
+            return false;
+        }
+        if (closedYears.contains(year)) {
+            return true;
+        }
+        boolean closed = financialYearRepository.findByYear(year)
+                .map(FinancialYear::getSettlementDate)
+                .isPresent();
+        if (closed) {
+            closedYears.add(year);
+        }
+        return closed;
+    }
+
+    private <T> T readPersisted(String key, Class<T> type) {
+        ReportCacheEntry entry = reportCacheRepository.findById(key).orElse(null);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(entry.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            // Written by an older version of the report; recompute and overwrite
+            log.warn("Discarding unreadable report cache entry {}", key, e);
+            return null;
+        }
+    }
+
+    private void persist(String key, String reportType, String year, Object value) {
+        try {
+            ReportCacheEntry entry = new ReportCacheEntry();
+            entry.setCacheKey(key);
+            entry.setReportType(reportType);
+            entry.setFinancialYear(year);
+            entry.setPayload(objectMapper.writeValueAsString(value));
+            requiresNew().executeWithoutResult(status -> reportCacheRepository.save(entry));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize report {}, not persisting it", key, e);
+        } catch (DataIntegrityViolationException e) {
+            // Another request stored the same report first
+            log.debug("Report cache entry {} already stored", key);
+        }
+    }
+
+    // Ledger events arrive after commit, while the finished transaction is still bound
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private static void evictIfFull(Map<String, ?> cache) {
+        if (cache.size() >= MAX_ENTRIES) {
+            cache.clear();
+        }
+    }
+
+    private record OpenEntry(Object value, String year, long expiresAtNanos) {
+    }
+}
@@ -4,7 +4,9 @@ import com.graminbank.dto.response.DepositResponse;
 import com.graminbank.dto.response.LoanResponse;
 import com.graminbank.dto.response.MemberStatementResponse;
 import com.graminbank.dto.response.YearlySettlementResponse;
+import com.graminbank.exception.BusinessException;
 import com.graminbank.exception.ResourceNotFoundException;
+import com.graminbank.model.AccrualSnapshot;
 import com.graminbank.model.Deposit;
 import com.graminbank.model.FinancialYear;
 import com.graminbank.model.Loan;
@@ -13,69 +15,107 @@ import com.graminbank.repository.DepositRepository;
 import com.graminbank.repository.FinancialYearRepository;
 import com.graminbank.repository.LoanRepository;
 import com.graminbank.repository.MemberRepository;
-import com.graminbank.util.InterestCalculator;
+import com.graminbank.repository.projection.DepositAggregate;
+import com.graminbank.repository.projection.LoanAggregate;
+import com.graminbank.repository.projection.MemberStatementTotals;
+import com.graminbank.service.MemberViewCacheService.CachedView;
+import com.graminbank.util.FinancialYearPeriod;
 import com.graminbank.util.DepositMapper;
 import com.graminbank.util.LoanMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class ReportService {
 
+    private static final int MAX_STATEMENT_PAGE_SIZE = 100;
+
     private final MemberRepository memberRepository;
     private final DepositRepository depositRepository;
     private final LoanRepository loanRepository;
     private final FinancialYearRepository financialYearRepository;
+    private final AccrualService accrualService;
+    private final ReportCacheService reportCacheService;
+    private final MemberViewCacheService memberViewCacheService;
+
+    /**
+     * One page of a member's deposits and loans, optionally limited to a financial year.
+     * The totals come from a single aggregate query, so the response size does not grow
+     * with the member's history. Cached per member against the member's balance version,
+     * which also serves as the ETag.
+     */
+    public CachedView<MemberStatementResponse> getMemberStatement(UUID memberId, String year, int page, int size) {
+        // Checked before the cache, which keys entries on page and size
+        if (page < 0) {
+            throw new BusinessException("page must not be negative");
+        }
+        if (size < 1 || size > MAX_STATEMENT_PAGE_SIZE) {
+            throw new BusinessException("size must be between 1 and " + MAX_STATEMENT_PAGE_SIZE);
+        }
+        return memberViewCacheService.get(memberId, "statement:" + year + ":" + page + ":" + size,
+                MemberStatementResponse.class, balance -> buildMemberStatement(memberId, year, page, size));
+    }
 
-    public MemberStatementResponse getMemberStatement(UUID memberId) {
+    private MemberStatementResponse buildMemberStatement(UUID memberId, String year, int page, int size) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new ResourceNotFoundException("Member not found"));
 
-        List<DepositResponse> deposits = depositRepository.findByMemberId(memberId).stream().map(DepositMapper::convertToResponseWithCurrentInterest).toList();
-        List<LoanResponse> loans = loanRepository.findByMemberId(memberId).stream().map(LoanMapper::convertToResponseWithCurrentInterest).toList();
-
-        BigDecimal totalDeposits = deposits.stream()
-                .map(DepositResponse::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal totalLoans = loans.stream()
-                .map(LoanResponse::getLoanAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        PageRequest depositPage = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "depositDate", "id"));
+        PageRequest loanPage = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "loanDate", "id"));
+        List<Deposit> depositRows = year != null
+                ? depositRepository.findByMemberIdAndFinancialYear(memberId, year, depositPage)
+                : depositRepository.findByMemberId(memberId, depositPage);
+        List<Loan> loanRows = year != null
+                ? loanRepository.findByMemberIdAndFinancialYear(memberId, year, loanPage)
+                : loanRepository.findByMemberId(memberId, loanPage);
+        Map<UUID, AccrualSnapshot> depositSnapshots = accrualService.findValidDepositSnapshots(depositRows);
+        Map<UUID, AccrualSnapshot> loanSnapshots = accrualService.findValidLoanSnapshots(loanRows);
+
+        List<DepositResponse> deposits = depositRows.stream()
+                .map(d -> DepositMapper.convertToResponseWithCurrentInterest(d, depositSnapshots.get(d.getId()))).toList();
+        List<LoanResponse> loans = loanRows.stream()
+                .map(l -> LoanMapper.convertToResponseWithCurrentInterest(l, loanSnapshots.get(l.getId()))).toList();
+
+        MemberStatementTotals totals = year == null
+                ? memberRepository.getStatementTotalsFromBalance(memberId, LocalDate.now())
+                : null;
+        if (totals == null) {
+            totals = memberRepository.getStatementTotals(memberId, year, LocalDate.now());
+        }
 
         MemberStatementResponse response = new MemberStatementResponse();
         response.setMemberName(member.getFirstName() + " " + member.getLastName());
         response.setPhone(member.getPhone());
+        response.setFinancialYear(year);
+        response.setPage(page);
+        response.setSize(size);
         response.setDeposits(deposits);
         response.setLoans(loans);
-        response.setTotalDeposits(totalDeposits);
-        response.setTotalLoans(totalLoans);
-        response.setActiveDepositsWithInterest(
-                deposits.stream()
-                        .filter(d -> d.getStatus().equals("ACTIVE"))
-                        .map(DepositResponse::getTotalAmount)
-                        .filter(Objects::nonNull)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add)
-        );
-        response.setActiveLoansWithInterest(
-                loans.stream()
-                        .filter(l -> l.getStatus().equals("ACTIVE"))
-                        .map(LoanResponse::getCurrentTotal)
-                        .filter(Objects::nonNull)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add)
-        );
+        response.setDepositCount(totals.getDepositCount());
+        response.setLoanCount(totals.getLoanCount());
+        response.setTotalDeposits(totals.getTotalDeposits());
+        response.setTotalLoans(totals.getTotalLoans());
+        response.setActiveDepositsWithInterest(totals.getActiveDepositsWithInterest());
+        response.setActiveLoansWithInterest(totals.getActiveLoansWithInterest());
         return response;
     }
 
     public YearlySettlementResponse getYearlySettlement(String year) {
-        if (year == null) {
-            year = InterestCalculator.getCurrentFinancialYear();
-        }
+        String financialYear = year != null ? year : FinancialYearPeriod.current().getLabel();
+        return reportCacheService.get("yearly-settlement", financialYear, "",
+                YearlySettlementResponse.class, () -> buildYearlySettlement(financialYear));
+    }
+
+    private YearlySettlementResponse buildYearlySettlement(String year) {
 
         // Try to find existing financial year data
         FinancialYear fy = financialYearRepository.findByYear(year).orElse(null);
@@ -92,25 +132,24 @@ public class ReportService {
             response.setNetProfit(fy.getNetBalance());
             response.setSettlementDate(fy.getSettlementDate());
         } else {
-            // Calculate from current data for the year
-            List<Deposit> deposits = depositRepository.findByStatusAndFinancialYear("SETTLED", year);
-            List<Loan> loans = loanRepository.findByStatusAndFinancialYear("SETTLED", year);
-
-            BigDecimal totalDeposits = deposits.stream()
-                    .map(Deposit::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal totalLoans = loans.stream()
-                    .map(Loan::getLoanAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal totalDepositInterest = deposits.stream()
-                    .map(Deposit::getInterestEarned)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            BigDecimal totalLoanInterest = loans.stream()
-                    .map(Loan::getInterestAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            // Calculate from current data for the year in one GROUP BY round trip
+            BigDecimal totalDeposits = BigDecimal.ZERO;
+            BigDecimal totalDepositInterest = BigDecimal.ZERO;
+            for (DepositAggregate aggregate : depositRepository.aggregateByStatusForFinancialYear(year)) {
+                if ("SETTLED".equals(aggregate.getStatus())) {
+                    totalDeposits = totalDeposits.add(aggregate.getTotalAmount());
+                    totalDepositInterest = totalDepositInterest.add(aggregate.getTotalInterestEarned());
+                }
+            }
+
+            BigDecimal totalLoans = BigDecimal.ZERO;
+            BigDecimal totalLoanInterest = BigDecimal.ZERO;
+            for (LoanAggregate aggregate : loanRepository.aggregateByStatusForFinancialYear(year)) {
+                if ("SETTLED".equals(aggregate.getStatus())) {
+                    totalLoans = totalLoans.add(aggregate.getTotalLoanAmount());
+                    totalLoanInterest = totalLoanInterest.add(aggregate.getTotalInterestAmount());
+                }
+            }
 
             response.setTotalDeposits(totalDeposits);
             response.setTotalLoans(totalLoans);
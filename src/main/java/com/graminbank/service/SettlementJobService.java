@@ -0,0 +1,291 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.SettlementJobResponse;
+import com.graminbank.exception.BusinessException;
+import com.graminbank.exception.ResourceNotFoundException;
+import com.graminbank.model.SettlementCheckpoint;
+import com.graminbank.model.SettlementJob;
+import com.graminbank.repository.DepositRepository;
+import com.graminbank.repository.LoanRepository;
+import com.graminbank.repository.SettlementCheckpointRepository;
+import com.graminbank.repository.SettlementJobRepository;
+import com.graminbank.util.FinancialYearPeriod;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.graminbank.util.BankConstants.ACTIVE;
+
+/**
+ * Runs {@link SettlementService#settleFinancialYear(SettlementProgressListener)} as a
+ * background job on a small dedicated executor and records its progress in settlement_jobs.
+ * A PostgreSQL session advisory lock, held on its own connection for the whole run,
+ * makes sure only one replica settles a year; it is released if that instance dies.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementJobService {
+
+    // First half of the two-key advisory lock; the second half is the financial year
+    private static final int SETTLEMENT_LOCK_KEY = 0x5E771E;
+
+    private static final List<String> ACTIVE_STATUSES = List.of(SettlementJob.QUEUED, SettlementJob.RUNNING);
+
+    private final SettlementService settlementService;
+    private final SettlementJobRepository settlementJobRepository;
+    private final SettlementCheckpointRepository checkpointRepository;
+    private final DepositRepository depositRepository;
+    private final LoanRepository loanRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+
+    @Value("${settlement.job.pool-size:1}")
+    private int poolSize;
+
+    @Value("${settlement.job.queue-capacity:1}")
+    private int queueCapacity;
+
+    @Value("${settlement.job.progress-interval-ms:1000}")
+    private long progressIntervalMs;
+
+    @Value("${settlement.job.stale-after-seconds:600}")
+    private long staleAfterSeconds;
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    @PostConstruct
+    public void startExecutor() {
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("settlement-job-");
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void stopExecutor() {
+        // Interrupted runs resume from the settlement checkpoint
+        executor.shutdown();
+    }
+
+    public SettlementJobResponse submit(String requestedBy) {
+        String financialYear = FinancialYearPeriod.current().getLabel();
+
+        SettlementJob job = transactionTemplate.execute(status -> {
+            if (checkpointRepository.findById(financialYear).filter(SettlementCheckpoint::isCompleted).isPresent()) {
+                throw new BusinessException("Financial year " + financialYear + " is already settled");
+            }
+            SettlementJob active = settlementJobRepository.findFirstByFinancialYearAndStatusInOrderByCreatedAtDesc(
+                    financialYear, ACTIVE_STATUSES).orElse(null);
+            if (active != null && !isAbandoned(active)) {
+                throw new BusinessException("A settlement job for " + financialYear + " is already queued or running");
+            }
+            if (active != null) {
+                log.warn("Settlement job {} was left {} by a stopped instance, marking it failed", active.getId(), active.getStatus());
+                active.setStatus(SettlementJob.FAILED);
+                active.setErrorMessage("Abandoned by a stopped instance");
+                active.setFinishedAt(LocalDateTime.now());
+            }
+
+            SettlementJob created = new SettlementJob();
+            created.setFinancialYear(financialYear);
+            created.setRequestedBy(requestedBy);
+            created.setRowsTotal(depositRepository.countByStatusAndFinancialYear(ACTIVE, financialYear)
+                    + loanRepository.countByStatusAndFinancialYear(ACTIVE, financialYear));
+            return settlementJobRepository.save(created);
+        });
+
+        try {
+            executor.execute(() -> run(job.getId(), financialYear));
+        } catch (TaskRejectedException e) {
+            finish(job.getId(), SettlementJob.FAILED, "Settlement executor is busy");
+            throw new BusinessException("Settlement executor is busy, try again later");
+        }
+
+        log.info("Queued settlement job {} for {} ({} rows)", job.getId(), financialYear, job.getRowsTotal());
+        return convertToResponse(job);
+    }
+
+    public SettlementJobResponse getJob(UUID jobId) {
+        SettlementJob job = settlementJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement job not found"));
+        return convertToResponse(job);
+    }
+
+    /**
+     * A RUNNING job whose year lock nobody holds, or a job QUEUED for longer than the
+     * stale timeout, belongs to an instance that stopped before finishing it.
+     */
+    private boolean isAbandoned(SettlementJob job) {
+        if (SettlementJob.QUEUED.equals(job.getStatus())) {
+            return job.getUpdatedAt().isBefore(LocalDateTime.now().minusSeconds(staleAfterSeconds));
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (!tryLock(connection, job.getFinancialYear())) {
+                return false;
+            }
+            unlock(connection, job.getFinancialYear());
+            return true;
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Could not check the settlement lock for {}", job.getFinancialYear(), e);
+            return false;
+        }
+    }
+
+    private void run(UUID jobId, String financialYear) {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!tryLock(lockConnection, financialYear)) {
+                finish(jobId, SettlementJob.FAILED, "Settlement of " + financialYear + " is running on another instance");
+                return;
+            }
+
+            try {
+                // submit checks this without the lock; another instance may have settled the year since
+                if (checkpointRepository.findById(financialYear).filter(SettlementCheckpoint::isCompleted).isPresent()) {
+                    finish(jobId, SettlementJob.FAILED, "Financial year " + financialYear + " is already settled");
+                    return;
+                }
+                JobProgress progress = start(jobId);
+                settlementService.settleFinancialYear(progress);
+                progress.flush();
+                finish(jobId, SettlementJob.COMPLETED, null);
+                log.info("Settlement job {} completed", jobId);
+            } finally {
+                unlock(lockConnection, financialYear);
+            }
+        } catch (Exception e) {
+            log.error("Settlement job {} failed", jobId, e);
+            finish(jobId, SettlementJob.FAILED, e.getMessage());
+        }
+    }
+
+    private JobProgress start(UUID jobId) {
+        SettlementJob job = transactionTemplate.execute(status -> {
+            SettlementJob running = settlementJobRepository.findById(jobId).orElseThrow();
+            running.setStatus(SettlementJob.RUNNING);
+            running.setStartedAt(LocalDateTime.now());
+            return settlementJobRepository.save(running);
+        });
+        return new JobProgress(job.getId(), job.getRowsTotal());
+    }
+
+    private void finish(UUID jobId, String status, String errorMessage) {
+        transactionTemplate.executeWithoutResult(tx -> settlementJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setErrorMessage(errorMessage);
+            job.setFinishedAt(LocalDateTime.now());
+            if (SettlementJob.COMPLETED.equals(status)) {
+                job.setEtaSeconds(0L);
+            }
+            settlementJobRepository.save(job);
+        }));
+    }
+
+    private static boolean tryLock(Connection connection, String financialYear) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?, ?)")) {
+            statement.setInt(1, SETTLEMENT_LOCK_KEY);
+            statement.setInt(2, lockKey(financialYear));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * Advisory locks take int keys, so a year is locked by its start year ("2024-25" -> 2024).
+     */
+    private static int lockKey(String financialYear) {
+        return FinancialYearPeriod.parse(financialYear).getStartYear();
+    }
+
+    private static void unlock(Connection connection, String financialYear) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?, ?)")) {
+            statement.setInt(1, SETTLEMENT_LOCK_KEY);
+            statement.setInt(2, lockKey(financialYear));
+            statement.execute();
+        }
+    }
+
+    private SettlementJobResponse convertToResponse(SettlementJob job) {
+        SettlementJobResponse response = new SettlementJobResponse();
+        response.setId(job.getId());
+        response.setFinancialYear(job.getFinancialYear());
+        response.setStatus(job.getStatus());
+        response.setPhase(job.getPhase());
+        response.setRowsTotal(job.getRowsTotal());
+        response.setRowsProcessed(job.getRowsProcessed());
+        response.setRowsPerSecond(job.getRowsPerSecond());
+        response.setEtaSeconds(job.getEtaSeconds());
+        response.setErrorMessage(job.getErrorMessage());
+        response.setRequestedBy(job.getRequestedBy());
+        response.setCreatedAt(job.getCreatedAt());
+        response.setStartedAt(job.getStartedAt());
+        response.setFinishedAt(job.getFinishedAt());
+        response.setUpdatedAt(job.getUpdatedAt());
+        return response;
+    }
+
+    /**
+     * Counts rows from all settlement workers and writes phase, throughput and ETA
+     * to the job row at most once per progress interval.
+     */
+    private class JobProgress implements SettlementProgressListener {
+
+        private final UUID jobId;
+        private final long rowsTotal;
+        private final long startedNanos = System.nanoTime();
+        private final AtomicLong rowsProcessed = new AtomicLong();
+        private final AtomicLong lastFlushNanos = new AtomicLong(System.nanoTime());
+        private volatile String phase;
+
+        JobProgress(UUID jobId, long rowsTotal) {
+            this.jobId = jobId;
+            this.rowsTotal = rowsTotal;
+        }
+
+        @Override
+        public void onPhase(String phase) {
+            this.phase = phase;
+            flush();
+        }
+
+        @Override
+        public void onRowsProcessed(long rows) {
+            rowsProcessed.addAndGet(rows);
+            long last = lastFlushNanos.get();
+            long now = System.nanoTime();
+            if (now - last >= progressIntervalMs * 1_000_000L && lastFlushNanos.compareAndSet(last, now)) {
+                flush();
+            }
+        }
+
+        void flush() {
+            long processed = rowsProcessed.get();
+            double elapsedSeconds = Math.max((System.nanoTime() - startedNanos) / 1e9, 0.001);
+            double rate = processed / elapsedSeconds;
+            Long eta = rate > 0 ? (long) Math.ceil(Math.max(rowsTotal - processed, 0) / rate) : null;
+
+            transactionTemplate.executeWithoutResult(status -> settlementJobRepository.updateProgress(
+                    jobId, phase, processed, BigDecimal.valueOf(rate).setScale(2, RoundingMode.HALF_UP), eta));
+        }
+    }
+}
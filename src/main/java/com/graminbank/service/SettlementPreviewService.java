@@ -0,0 +1,130 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.SettlementPreviewResponse;
+import com.graminbank.dto.response.SettlementPreviewResponse.MemberBreakdown;
+import com.graminbank.model.Deposit;
+import com.graminbank.model.Loan;
+import com.graminbank.model.Member;
+import com.graminbank.repository.DepositRepository;
+import com.graminbank.repository.LoanRepository;
+import com.graminbank.util.FinancialYearPeriod;
+import com.graminbank.util.FixedPointInterestCalculator;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.graminbank.util.BankConstants.ACTIVE;
+
+/**
+ * Dry run of {@link SettlementService#settleFinancialYear()}. Streams the year's ACTIVE
+ * deposits and loans through read-only cursors, detaching each row once it is counted,
+ * so memory stays flat however large the book is. Nothing is written.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementPreviewService {
+
+    private final DepositRepository depositRepository;
+    private final LoanRepository loanRepository;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public SettlementPreviewResponse preview(LocalDate settlementDate, boolean includeMembers) {
+        FinancialYearPeriod period = FinancialYearPeriod.current();
+        String financialYear = period.getLabel();
+        Map<UUID, MemberBreakdown> members = includeMembers ? new LinkedHashMap<>() : null;
+
+        long depositCount = 0;
+        BigDecimal totalDeposits = BigDecimal.ZERO;
+        BigDecimal totalDepositInterest = BigDecimal.ZERO;
+
+        try (Stream<Deposit> deposits = depositRepository.streamByStatusAndFinancialYear(ACTIVE, financialYear)) {
+            for (Deposit deposit : (Iterable<Deposit>) deposits::iterator) {
+                BigDecimal interest = FixedPointInterestCalculator.calculateDepositInterest(
+                        deposit.getAmount(), deposit.getDepositDate(), settlementDate);
+
+                depositCount++;
+                totalDeposits = totalDeposits.add(deposit.getAmount());
+                totalDepositInterest = totalDepositInterest.add(interest);
+
+                if (members != null) {
+                    MemberBreakdown breakdown = breakdownFor(members, deposit.getMember());
+                    breakdown.setDepositAmount(breakdown.getDepositAmount().add(deposit.getAmount()));
+                    breakdown.setDepositInterest(breakdown.getDepositInterest().add(interest));
+                }
+                detach(deposit, deposit.getMember());
+            }
+        }
+
+        long loanCount = 0;
+        BigDecimal totalLoans = BigDecimal.ZERO;
+        BigDecimal totalLoanInterest = BigDecimal.ZERO;
+        BigDecimal totalCarriedForward = BigDecimal.ZERO;
+
+        try (Stream<Loan> loans = loanRepository.streamByStatusAndFinancialYear(ACTIVE, financialYear)) {
+            for (Loan loan : (Iterable<Loan>) loans::iterator) {
+                BigDecimal interest = FixedPointInterestCalculator.calculateLoanInterest(
+                        loan.getLoanAmount(), loan.getLoanDate(), settlementDate);
+                // Same as LoanService.prepareCarryForward: principal + interest - paid
+                BigDecimal carriedForward = loan.getLoanAmount().add(interest).subtract(loan.getPaidAmount());
+
+                loanCount++;
+                totalLoans = totalLoans.add(loan.getLoanAmount());
+                totalLoanInterest = totalLoanInterest.add(interest);
+                totalCarriedForward = totalCarriedForward.add(carriedForward);
+
+                if (members != null) {
+                    MemberBreakdown breakdown = breakdownFor(members, loan.getMember());
+                    breakdown.setLoanAmount(breakdown.getLoanAmount().add(loan.getLoanAmount()));
+                    breakdown.setLoanInterest(breakdown.getLoanInterest().add(interest));
+                    breakdown.setCarriedForwardAmount(breakdown.getCarriedForwardAmount().add(carriedForward));
+                }
+                detach(loan, loan.getMember());
+            }
+        }
+
+        SettlementPreviewResponse response = new SettlementPreviewResponse();
+        response.setFinancialYear(financialYear);
+        response.setNextFinancialYear(period.next().getLabel());
+        response.setSettlementDate(settlementDate);
+        response.setDepositCount(depositCount);
+        response.setTotalDeposits(totalDeposits);
+        response.setTotalDepositInterest(totalDepositInterest);
+        response.setLoanCount(loanCount);
+        response.setTotalLoans(totalLoans);
+        response.setTotalLoanInterest(totalLoanInterest);
+        response.setTotalCarriedForward(totalCarriedForward);
+        response.setNetBalance(totalLoanInterest.subtract(totalDepositInterest));
+        response.setMembers(members != null ? new ArrayList<>(members.values()) : null);
+
+        log.info("Settlement preview for {} as of {}: {} deposits, {} loans",
+                financialYear, settlementDate, depositCount, loanCount);
+        return response;
+    }
+
+    private static MemberBreakdown breakdownFor(Map<UUID, MemberBreakdown> members, Member member) {
+        return members.computeIfAbsent(member.getId(), id -> {
+            MemberBreakdown breakdown = new MemberBreakdown();
+            breakdown.setMemberId(id);
+            breakdown.setMemberName(member.getFirstName() + " " + member.getLastName());
+            return breakdown;
+        });
+    }
+
+    // Keeps the persistence context from growing with every streamed row
+    private void detach(Object row, Member member) {
+        entityManager.detach(row);
+        entityManager.detach(member);
+    }
+}
@@ -0,0 +1,28 @@
+package com.graminbank.service;
+
+/**
+ * Receives progress from {@link SettlementService} between chunks. With the parallel
+ * engine it is called from several worker threads at once, so implementations must be thread-safe.
+ */
+public interface SettlementProgressListener {
+
+    SettlementProgressListener NONE = new SettlementProgressListener() {
+        @Override
+        public void onPhase(String phase) {
+        }
+
+        @Override
+        public void onRowsProcessed(long rows) {
+        }
+    };
+
+    /**
+     * Called when settlement enters a phase of {@link com.graminbank.model.SettlementCheckpoint}.
+     */
+    void onPhase(String phase);
+
+    /**
+     * Called after each committed chunk with the number of deposits or loans it settled.
+     */
+    void onRowsProcessed(long rows);
+}
@@ -1,21 +1,50 @@
 package com.graminbank.service;
 
+import com.graminbank.event.LedgerChangedEvent;
+import com.graminbank.exception.BusinessException;
 import com.graminbank.model.Deposit;
 import com.graminbank.model.FinancialYear;
 import com.graminbank.model.Loan;
+import com.graminbank.model.SettlementCheckpoint;
 import com.graminbank.repository.DepositRepository;
 import com.graminbank.repository.FinancialYearRepository;
 import com.graminbank.repository.LoanRepository;
-import com.graminbank.util.InterestCalculator;
+import com.graminbank.repository.SettlementCheckpointRepository;
+import com.graminbank.util.FinancialYearPeriod;
+import com.graminbank.util.FixedPointInterestCalculator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.IntUnaryOperator;
 
+import static com.graminbank.util.BankConstants.ACTIVE;
+
+/**
+ * Year-end settlement. Deposits are settled and loans carried forward in chunks of
+ * {@code settlement.chunk-size} rows, each chunk in its own transaction together with
+ * its bank totals delta and checkpoint progress. Every chunk reads the first page of
+ * rows still ACTIVE in the year, so a run that stopped part way resumes on the next
+ * call without touching rows it already settled.
+ * With {@code settlement.engine=parallel} the same chunks are processed by
+ * {@code settlement.workers} threads, each owning the members that hash into its partition.
+ * With {@code settlement.engine=sql} the rows are settled by {@link SqlSettlementEngine} instead.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -24,92 +53,278 @@ public class SettlementService {
     private final DepositRepository depositRepository;
     private final LoanRepository loanRepository;
     private final FinancialYearRepository financialYearRepository;
+    private final SettlementCheckpointRepository checkpointRepository;
     private final LoanService loanService;
+    private final SqlSettlementEngine sqlSettlementEngine;
+    private final BankTotalsService bankTotalsService;
+    private final MemberBalanceService memberBalanceService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${settlement.chunk-size:200}")
+    private int chunkSize;
+
+    // chunked (row by row in JPA chunks), parallel (chunks on member partitions) or sql (set-based statements)
+    @Value("${settlement.engine:chunked}")
+    private String engine;
+
+    @Value("${settlement.workers:4}")
+    private int workers;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    // Partition workers of the parallel engine; threads start on first use
+    private final ThreadPoolTaskExecutor partitionExecutor = new ThreadPoolTaskExecutor();
+
+    @PostConstruct
+    public void startExecutor() {
+        int maxPartitions = maxPartitions();
+        partitionExecutor.setCorePoolSize(maxPartitions);
+        partitionExecutor.setMaxPoolSize(maxPartitions);
+        partitionExecutor.setQueueCapacity(maxPartitions);
+        partitionExecutor.setThreadNamePrefix("settlement-worker-");
+        partitionExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void stopExecutor() {
+        // Partitions left unfinished are picked up from the checkpoint by the next run
+        partitionExecutor.shutdown();
+    }
 
-    @Transactional
     public void settleFinancialYear() {
-        LocalDate settlementDate = LocalDate.now();
-        String currentYear = InterestCalculator.getCurrentFinancialYear();
-
-        log.info("Starting yearly settlement for financial year: {}", currentYear);
-
-        // Settle all active deposits
-        List<Deposit> activeDeposits = depositRepository.findByStatusAndFinancialYear("ACTIVE", currentYear);
-        BigDecimal totalDepositInterest = BigDecimal.ZERO;
-        BigDecimal totalDepositAmount = BigDecimal.ZERO;
-
-        for (Deposit deposit : activeDeposits) {
-            BigDecimal interest = InterestCalculator.calculateDepositInterest(
-                    deposit.getAmount(),
-                    deposit.getDepositDate(),
-                    settlementDate
-            );
-
-            deposit.setInterestEarned(interest);
-            deposit.setTotalAmount(deposit.getAmount().add(interest));
-            deposit.setStatus("SETTLED");
-            deposit.setReturnDate(settlementDate);
-            depositRepository.save(deposit);
-
-            totalDepositInterest = totalDepositInterest.add(interest);
-            totalDepositAmount = totalDepositAmount.add(deposit.getAmount());
+        settleFinancialYear(SettlementProgressListener.NONE);
+    }
+
+    public void settleFinancialYear(SettlementProgressListener listener) {
+        FinancialYearPeriod period = FinancialYearPeriod.current();
+        String currentYear = period.getLabel();
+
+        SettlementCheckpoint checkpoint = transactionTemplate.execute(status -> startOrResume(currentYear));
+        LocalDate settlementDate = checkpoint.getSettlementDate();
+        String nextFinancialYear = period.next().getLabel();
+
+        if ("sql".equals(engine)) {
+            listener.onPhase(checkpoint.getPhase());
+            listener.onRowsProcessed(sqlSettlementEngine.settle(currentYear, nextFinancialYear, settlementDate));
+            FinancialYear fy = transactionTemplate.execute(status -> complete(currentYear, period));
+            listener.onPhase(SettlementCheckpoint.PHASE_COMPLETED);
+            log.info("Financial year settlement completed. Net balance: {}", fy.getNetBalance());
+            return;
         }
 
-        log.info("Settled {} deposits. Total principal: {}, Total interest: {}",
-                activeDeposits.size(), totalDepositAmount, totalDepositInterest);
+        int partitions = "parallel".equals(engine) ? maxPartitions() : 1;
+
+        if (SettlementCheckpoint.PHASE_DEPOSITS.equals(checkpoint.getPhase())) {
+            listener.onPhase(SettlementCheckpoint.PHASE_DEPOSITS);
+            int settled = runPartitions(partitions, partition ->
+                    settleDeposits(currentYear, settlementDate, partition, partitions, listener));
+            transactionTemplate.executeWithoutResult(status ->
+                    checkpointRepository.updatePhase(currentYear, SettlementCheckpoint.PHASE_LOANS));
+            log.info("Settled {} deposits in this run", settled);
+        }
 
         // Handle active loans - carry forward to next year
-        List<Loan> activeLoans = loanRepository.findByStatusAndFinancialYear("ACTIVE", currentYear);
-        BigDecimal totalLoanInterest = BigDecimal.ZERO;
-        BigDecimal totalLoanAmount = BigDecimal.ZERO;
+        listener.onPhase(SettlementCheckpoint.PHASE_LOANS);
+        int carried = runPartitions(partitions, partition ->
+                carryForwardLoans(currentYear, nextFinancialYear, settlementDate, partition, partitions, listener));
+        log.info("Carried forward {} loans in this run", carried);
+
+        FinancialYear fy = transactionTemplate.execute(status -> complete(currentYear, period));
+        listener.onPhase(SettlementCheckpoint.PHASE_COMPLETED);
+        log.info("Financial year settlement completed. Net balance: {}", fy.getNetBalance());
+    }
+
+    private SettlementCheckpoint startOrResume(String financialYear) {
+        SettlementCheckpoint existing = checkpointRepository.findById(financialYear).orElse(null);
+        if (existing != null && existing.isCompleted()) {
+            // Starting over would replace the year's totals with those of a run that settles nothing
+            throw new BusinessException("Financial year " + financialYear + " is already settled");
+        }
+        if (existing != null) {
+            log.info("Resuming yearly settlement for financial year {} in phase {} ({} deposits, {} loans done)",
+                    financialYear, existing.getPhase(), existing.getDepositsSettled(), existing.getLoansCarriedForward());
+            return existing;
+        }
+
+        log.info("Starting yearly settlement for financial year: {}", financialYear);
+        SettlementCheckpoint checkpoint = new SettlementCheckpoint();
+        checkpoint.setFinancialYear(financialYear);
+        checkpoint.setSettlementDate(LocalDate.now());
+        checkpoint.setStartedAt(LocalDateTime.now());
+        return checkpointRepository.save(checkpoint);
+    }
+
+    /**
+     * Runs {@code task} once per partition and returns the summed row counts. A single
+     * partition runs on the calling thread; otherwise each partition gets a worker of the
+     * shared executor, and with it its own transactions and connection.
+     */
+    private int runPartitions(int partitions, IntUnaryOperator task) {
+        if (partitions == 1) {
+            return task.applyAsInt(0);
+        }
 
-        String nextFinancialYear = getNextFinancialYear(currentYear);
+        List<Future<Integer>> results = new ArrayList<>(partitions);
+        try {
+            for (int partition = 0; partition < partitions; partition++) {
+                int p = partition;
+                results.add(partitionExecutor.submit(() -> task.applyAsInt(p)));
+            }
 
-        for (Loan loan : activeLoans) {
-            // Carry forward the loan to next year
-            Loan carriedForwardLoan = loanService.carryForwardLoan(loan, nextFinancialYear, settlementDate);
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get();
+            }
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Settlement interrupted", e);
+        } catch (ExecutionException e) {
+            // Committed chunks stay committed; the next run resumes from the checkpoint
+            throw new IllegalStateException("Settlement partition failed", e.getCause());
+        } finally {
+            results.forEach(result -> result.cancel(true));
+        }
+    }
 
-            totalLoanInterest = totalLoanInterest.add(loan.getInterestAmount());
-            totalLoanAmount = totalLoanAmount.add(loan.getLoanAmount());
+    // Each worker holds a connection; leave one for a settlement job's lock and one for the rest of the application
+    private int maxPartitions() {
+        return Math.max(1, Math.min(workers, connectionPoolSize - 2));
+    }
 
-            log.info("Carried forward loan {} with new amount {}",
-                    loan.getId(), carriedForwardLoan.getLoanAmount());
+    private int settleDeposits(String financialYear, LocalDate settlementDate, int partition, int partitions,
+                               SettlementProgressListener listener) {
+        int settled = 0;
+        int chunk;
+        while ((chunk = settleDepositChunk(financialYear, settlementDate, partition, partitions)) > 0) {
+            settled += chunk;
+            listener.onRowsProcessed(chunk);
+            log.debug("Settled {} deposits of {} so far in partition {}", settled, financialYear, partition);
         }
+        return settled;
+    }
+
+    private int carryForwardLoans(String financialYear, String nextFinancialYear, LocalDate settlementDate,
+                                  int partition, int partitions, SettlementProgressListener listener) {
+        int carried = 0;
+        int chunk;
+        while ((chunk = carryForwardLoanChunk(financialYear, nextFinancialYear, settlementDate, partition, partitions)) > 0) {
+            carried += chunk;
+            listener.onRowsProcessed(chunk);
+            log.debug("Carried forward {} loans of {} so far in partition {}", carried, financialYear, partition);
+        }
+        return carried;
+    }
 
+    private int settleDepositChunk(String financialYear, LocalDate settlementDate, int partition, int partitions) {
+        Integer settled = transactionTemplate.execute(status -> {
+            List<Deposit> deposits = partitions == 1
+                    ? depositRepository.findSliceByStatusAndFinancialYear(ACTIVE, financialYear, firstChunk()).getContent()
+                    : depositRepository.findActivePartitionChunk(financialYear, partition, partitions, chunkSize);
+            if (deposits.isEmpty()) {
+                return 0;
+            }
+
+            BigDecimal chunkInterest = BigDecimal.ZERO;
+            BigDecimal chunkAmount = BigDecimal.ZERO;
+            LedgerDelta delta = new LedgerDelta();
+
+            for (Deposit deposit : deposits) {
+                delta.removeDeposit(deposit);
+
+                BigDecimal interest = FixedPointInterestCalculator.calculateDepositInterest(
+                        deposit.getAmount(),
+                        deposit.getDepositDate(),
+                        settlementDate
+                );
+
+                deposit.setInterestEarned(interest);
+                deposit.setTotalAmount(deposit.getAmount().add(interest));
+                deposit.setStatus("SETTLED");
+                deposit.setReturnDate(settlementDate);
+                delta.addDeposit(deposit);
+
+                chunkInterest = chunkInterest.add(interest);
+                chunkAmount = chunkAmount.add(deposit.getAmount());
+            }
+
+            // Write the rows before touching the shared checkpoint and totals rows, so their locks are held briefly
+            depositRepository.saveAllAndFlush(deposits);
+            checkpointRepository.addDepositProgress(financialYear, deposits.size(), chunkAmount, chunkInterest);
+            bankTotalsService.apply(delta);
+            memberBalanceService.apply(delta);
+            eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
+            return deposits.size();
+        });
+        return settled != null ? settled : 0;
+    }
+
+    private int carryForwardLoanChunk(String financialYear, String nextFinancialYear, LocalDate settlementDate,
+                                      int partition, int partitions) {
+        Integer carried = transactionTemplate.execute(status -> {
+            List<Loan> loans = partitions == 1
+                    ? loanRepository.findSliceByStatusAndFinancialYear(ACTIVE, financialYear, firstChunk()).getContent()
+                    : loanRepository.findActivePartitionChunk(financialYear, partition, partitions, chunkSize);
+            if (loans.isEmpty()) {
+                return 0;
+            }
+
+            BigDecimal chunkInterest = BigDecimal.ZERO;
+            BigDecimal chunkAmount = BigDecimal.ZERO;
+            LedgerDelta delta = new LedgerDelta();
+            List<Loan> newLoans = new ArrayList<>(loans.size());
+
+            for (Loan loan : loans) {
+                newLoans.add(loanService.prepareCarryForward(loan, nextFinancialYear, settlementDate, delta));
+
+                chunkInterest = chunkInterest.add(loan.getInterestAmount());
+                chunkAmount = chunkAmount.add(loan.getLoanAmount());
+            }
+
+            loanRepository.saveAll(loans);
+            loanRepository.saveAllAndFlush(newLoans).forEach(delta::addLoan);
+            checkpointRepository.addLoanProgress(financialYear, loans.size(), chunkAmount, chunkInterest);
+            bankTotalsService.apply(delta);
+            memberBalanceService.apply(delta);
+            eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
+            return loans.size();
+        });
+        return carried != null ? carried : 0;
+    }
+
+    private FinancialYear complete(String financialYear, FinancialYearPeriod period) {
+        SettlementCheckpoint checkpoint = checkpointRepository.findById(financialYear)
+                .orElseThrow(() -> new IllegalStateException("Settlement checkpoint missing for " + financialYear));
+
+        log.info("Settled {} deposits. Total principal: {}, Total interest: {}",
+                checkpoint.getDepositsSettled(), checkpoint.getTotalDepositAmount(), checkpoint.getTotalDepositInterest());
         log.info("Carried forward {} loans. Total principal: {}, Total interest: {}",
-                activeLoans.size(), totalLoanAmount, totalLoanInterest);
+                checkpoint.getLoansCarriedForward(), checkpoint.getTotalLoanAmount(), checkpoint.getTotalLoanInterest());
 
         // Create or update financial year record
-        FinancialYear fy = financialYearRepository.findByYear(currentYear)
+        FinancialYear fy = financialYearRepository.findByYear(financialYear)
                 .orElse(new FinancialYear());
 
-        fy.setYear(currentYear);
-        fy.setStartDate(getFinancialYearStartDate(currentYear));
-        fy.setEndDate(settlementDate);
+        fy.setYear(financialYear);
+        fy.setStartDate(period.getStartDate());
+        fy.setEndDate(checkpoint.getSettlementDate());
         fy.setIsActive(false);
-        fy.setTotalDeposits(totalDepositAmount);
-        fy.setTotalLoans(totalLoanAmount);
-        fy.setTotalInterestEarned(totalDepositInterest);
-        fy.setTotalInterestPaid(totalLoanInterest);
-        fy.setNetBalance(totalLoanInterest.subtract(totalDepositInterest));
-        fy.setSettlementDate(settlementDate);
-
-        financialYearRepository.save(fy);
-
-        log.info("Financial year settlement completed. Net balance: {}", fy.getNetBalance());
-    }
+        fy.setTotalDeposits(checkpoint.getTotalDepositAmount());
+        fy.setTotalLoans(checkpoint.getTotalLoanAmount());
+        fy.setTotalInterestEarned(checkpoint.getTotalDepositInterest());
+        fy.setTotalInterestPaid(checkpoint.getTotalLoanInterest());
+        fy.setNetBalance(checkpoint.getTotalLoanInterest().subtract(checkpoint.getTotalDepositInterest()));
+        fy.setSettlementDate(checkpoint.getSettlementDate());
 
-    private String getNextFinancialYear(String currentYear) {
-        // "2024-25" -> "2025-26"
-        String[] parts = currentYear.split("-");
-        int year = Integer.parseInt(parts[0]);
-        return (year + 1) + "-" + String.format("%02d", (year + 2) % 100);
+        checkpoint.setPhase(SettlementCheckpoint.PHASE_COMPLETED);
+        checkpoint.setCompletedAt(LocalDateTime.now());
+        return financialYearRepository.save(fy);
     }
 
-    private LocalDate getFinancialYearStartDate(String financialYear) {
-        // "2024-25" -> 2024-04-01
-        String[] parts = financialYear.split("-");
-        int year = Integer.parseInt(parts[0]);
-        return LocalDate.of(year, 4, 1);
+    // Settled rows leave the ACTIVE filter, so the first page is always the next unprocessed chunk
+    private PageRequest firstChunk() {
+        return PageRequest.of(0, chunkSize, Sort.by("id"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.graminbank.service;
+
+import com.graminbank.event.LedgerChangedEvent;
+import com.graminbank.model.SettlementCheckpoint;
+import com.graminbank.repository.DepositRepository;
+import com.graminbank.repository.LoanRepository;
+import com.graminbank.repository.SettlementCheckpointRepository;
+import com.graminbank.repository.projection.SettlementTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Set-based settlement engine (settlement.engine=sql). Settles the year's deposits with
+ * one UPDATE and carries its loans forward with one UPDATE + INSERT ... SELECT, each
+ * returning its totals, instead of loading and saving rows one by one.
+ * The interest formula lives in {@link com.graminbank.util.InterestSql}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SqlSettlementEngine {
+
+    private final DepositRepository depositRepository;
+    private final LoanRepository loanRepository;
+    private final SettlementCheckpointRepository checkpointRepository;
+    private final BankTotalsService bankTotalsService;
+    private final MemberBalanceService memberBalanceService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @return the number of deposits and loans settled
+     */
+    @Transactional
+    public long settle(String financialYear, String nextFinancialYear, LocalDate settlementDate) {
+        SettlementTotals deposits = depositRepository.settleActiveForFinancialYear(financialYear, settlementDate);
+        checkpointRepository.addDepositProgress(financialYear, deposits.getRowCount(),
+                deposits.getTotalAmount(), deposits.getTotalInterest());
+        checkpointRepository.updatePhase(financialYear, SettlementCheckpoint.PHASE_LOANS);
+        log.info("Settled {} deposits in one statement", deposits.getRowCount());
+
+        SettlementTotals loans = loanRepository.carryForwardActiveForFinancialYear(
+                financialYear, nextFinancialYear, settlementDate);
+        checkpointRepository.addLoanProgress(financialYear, loans.getRowCount(),
+                loans.getTotalAmount(), loans.getTotalInterest());
+        log.info("Carried forward {} loans in one statement", loans.getRowCount());
+
+        LedgerDelta delta = new LedgerDelta()
+                .addSettledDeposits(financialYear, deposits.getRowCount(), deposits.getTotalAmount(),
+                        deposits.getTotalInterest(), List.of(deposits.getMemberIds()))
+                .addCarriedForwardLoans(financialYear, nextFinancialYear, loans.getTotalAmount(),
+                        loans.getCarriedAmount(), List.of(loans.getMemberIds()));
+        bankTotalsService.apply(delta);
+        memberBalanceService.apply(delta);
+        eventPublisher.publishEvent(LedgerChangedEvent.of(delta));
+        return deposits.getRowCount() + loans.getRowCount();
+    }
+}
@@ -0,0 +1,338 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.DepositResponse;
+import com.graminbank.dto.response.LoanResponse;
+import com.graminbank.dto.response.StatementBatchResponse;
+import com.graminbank.exception.BusinessException;
+import com.graminbank.exception.ResourceNotFoundException;
+import com.graminbank.model.AccrualSnapshot;
+import com.graminbank.model.Deposit;
+import com.graminbank.model.Loan;
+import com.graminbank.model.Member;
+import com.graminbank.model.StatementBatch;
+import com.graminbank.repository.DepositRepository;
+import com.graminbank.repository.LoanRepository;
+import com.graminbank.repository.MemberRepository;
+import com.graminbank.repository.StatementBatchRepository;
+import com.graminbank.util.DepositMapper;
+import com.graminbank.util.FinancialYearPeriod;
+import com.graminbank.util.LoanMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static com.graminbank.util.BankConstants.ACTIVE;
+
+/**
+ * Writes a year-end statement file for every active member. Members are taken in blocks
+ * in id order; each block's deposits and loans are loaded with two IN queries and the
+ * files are rendered in parallel on a ForkJoinPool. The batch row records progress and
+ * the last member of the last finished block, so a failed or interrupted batch resumes there.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatementBatchService {
+
+    // Smallest uuid in PostgreSQL ordering, the starting point of a fresh batch
+    private static final UUID FIRST_MEMBER = new UUID(0L, 0L);
+
+    private final StatementBatchRepository statementBatchRepository;
+    private final MemberRepository memberRepository;
+    private final DepositRepository depositRepository;
+    private final LoanRepository loanRepository;
+    private final AccrualService accrualService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${statements.output-dir:statements}")
+    private String outputDir;
+
+    @Value("${statements.block-size:200}")
+    private int blockSize;
+
+    @Value("${statements.render-threads:0}")
+    private int renderThreads;
+
+    @Value("${statements.stale-after-seconds:600}")
+    private long staleAfterSeconds;
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    private ForkJoinPool renderPool;
+
+    @PostConstruct
+    public void startExecutors() {
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("statement-batch-");
+        executor.initialize();
+        renderPool = new ForkJoinPool(renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void stopExecutors() {
+        // Interrupted batches resume from their last finished block
+        executor.shutdown();
+        renderPool.shutdown();
+    }
+
+    /**
+     * Starts a batch for {@code financialYear}, or resumes the year's last batch if it
+     * failed or was left running by a stopped instance.
+     */
+    public StatementBatchResponse submit(String year, String requestedBy) {
+        // The label becomes a directory name under statements.output-dir, so only a well-formed year is accepted
+        String financialYear = parseFinancialYear(year);
+        StatementBatch batch = transactionTemplate.execute(status -> {
+            StatementBatch previous = statementBatchRepository.findFirstByFinancialYearOrderByCreatedAtDesc(financialYear)
+                    .filter(b -> !StatementBatch.COMPLETED.equals(b.getStatus()))
+                    .orElse(null);
+            if (previous != null && !StatementBatch.FAILED.equals(previous.getStatus())
+                    && previous.getUpdatedAt().isAfter(LocalDateTime.now().minusSeconds(staleAfterSeconds))) {
+                throw new BusinessException("A statement batch for " + financialYear + " is already queued or running");
+            }
+
+            StatementBatch next = previous != null ? previous : new StatementBatch();
+            if (previous == null) {
+                next.setFinancialYear(financialYear);
+                next.setOutputDirectory(Paths.get(outputDir, financialYear).toAbsolutePath().toString());
+            } else {
+                log.info("Resuming statement batch {} after member {}", previous.getId(), previous.getLastMemberId());
+            }
+            next.setStatus(StatementBatch.QUEUED);
+            next.setErrorMessage(null);
+            next.setFinishedAt(null);
+            next.setRequestedBy(requestedBy);
+            next.setMembersTotal(memberRepository.countByIsActiveTrue());
+            return statementBatchRepository.save(next);
+        });
+
+        try {
+            executor.execute(() -> run(batch.getId()));
+        } catch (TaskRejectedException e) {
+            finish(batch.getId(), StatementBatch.FAILED, "Statement executor is busy");
+            throw new BusinessException("A statement batch is already running, try again later");
+        }
+
+        log.info("Queued statement batch {} for {} ({} members)", batch.getId(), financialYear, batch.getMembersTotal());
+        return convertToResponse(batch);
+    }
+
+    public StatementBatchResponse getBatch(UUID batchId) {
+        StatementBatch batch = statementBatchRepository.findById(batchId)
+                .orElseThrow(() -> new ResourceNotFoundException("Statement batch not found"));
+        return convertToResponse(batch);
+    }
+
+    private void run(UUID batchId) {
+        try {
+            StatementBatch batch = transactionTemplate.execute(status -> {
+                StatementBatch running = statementBatchRepository.findById(batchId).orElseThrow();
+                running.setStatus(StatementBatch.RUNNING);
+                if (running.getStartedAt() == null) {
+                    running.setStartedAt(LocalDateTime.now());
+                }
+                return statementBatchRepository.save(running);
+            });
+
+            String financialYear = batch.getFinancialYear();
+            Path directory = Files.createDirectories(Paths.get(batch.getOutputDirectory()));
+            UUID after = batch.getLastMemberId() != null ? batch.getLastMemberId() : FIRST_MEMBER;
+            long started = System.currentTimeMillis();
+            long written = 0;
+
+            while (true) {
+                UUID from = after;
+                Block block = transactionTemplate.execute(status -> loadBlock(from, financialYear));
+                if (block.members().isEmpty()) {
+                    break;
+                }
+
+                renderPool.submit(() -> block.members().parallelStream()
+                        .forEach(member -> writeStatement(directory, financialYear, member, block))).get();
+
+                after = block.members().get(block.members().size() - 1).getId();
+                UUID marker = after;
+                transactionTemplate.executeWithoutResult(status ->
+                        statementBatchRepository.addProgress(batchId, block.members().size(), marker));
+                written += block.members().size();
+            }
+
+            finish(batchId, StatementBatch.COMPLETED, null);
+            log.info("Statement batch {} wrote {} statements to {} in {} ms",
+                    batchId, written, directory, System.currentTimeMillis() - started);
+        } catch (ExecutionException e) {
+            log.error("Statement batch {} failed", batchId, e.getCause());
+            finish(batchId, StatementBatch.FAILED, e.getCause().getMessage());
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.error("Statement batch {} failed", batchId, e);
+            finish(batchId, StatementBatch.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Next block of members with their deposits and loans for the year, grouped by member,
+     * and the accrual snapshots of the active rows: four queries per block.
+     */
+    private Block loadBlock(UUID after, String financialYear) {
+        List<Member> members = memberRepository.findActiveBlockAfter(after, PageRequest.of(0, blockSize));
+        if (members.isEmpty()) {
+            return new Block(members, Map.of(), Map.of(), Map.of(), Map.of());
+        }
+        List<UUID> memberIds = members.stream().map(Member::getId).toList();
+        List<Deposit> deposits = depositRepository.findByMemberIdInAndFinancialYear(memberIds, financialYear);
+        List<Loan> loans = loanRepository.findByMemberIdInAndFinancialYear(memberIds, financialYear);
+
+        return new Block(members,
+                deposits.stream().collect(Collectors.groupingBy(d -> d.getMember().getId())),
+                loans.stream().collect(Collectors.groupingBy(l -> l.getMember().getId())),
+                accrualService.findValidDepositSnapshots(deposits),
+                accrualService.findValidLoanSnapshots(loans));
+    }
+
+    private void writeStatement(Path directory, String financialYear, Member member, Block block) {
+        List<DepositResponse> deposits = block.deposits().getOrDefault(member.getId(), List.of()).stream()
+                .map(d -> DepositMapper.convertToResponseWithCurrentInterest(d, block.depositSnapshots().get(d.getId())))
+                .toList();
+        List<LoanResponse> loans = block.loans().getOrDefault(member.getId(), List.of()).stream()
+                .map(l -> LoanMapper.convertToResponseWithCurrentInterest(l, block.loanSnapshots().get(l.getId())))
+                .toList();
+
+        BigDecimal totalDeposits = BigDecimal.ZERO;
+        BigDecimal activeDepositsWithInterest = BigDecimal.ZERO;
+        for (DepositResponse deposit : deposits) {
+            totalDeposits = totalDeposits.add(deposit.getAmount());
+            if (ACTIVE.equals(deposit.getStatus())) {
+                activeDepositsWithInterest = activeDepositsWithInterest.add(deposit.getTotalAmount());
+            }
+        }
+        BigDecimal totalLoans = BigDecimal.ZERO;
+        BigDecimal activeLoansWithInterest = BigDecimal.ZERO;
+        for (LoanResponse loan : loans) {
+            totalLoans = totalLoans.add(loan.getLoanAmount());
+            if (ACTIVE.equals(loan.getStatus())) {
+                activeLoansWithInterest = activeLoansWithInterest.add(loan.getCurrentTotal());
+            }
+        }
+
+        // Written to a temp file and moved into place, so a crash never leaves a partial statement
+        Path target = directory.resolve(member.getId() + ".csv");
+        Path temp = directory.resolve(member.getId() + ".csv.tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write("Member," + csv(member.getFirstName() + " " + member.getLastName()) + "\n");
+            writer.write("Phone," + csv(member.getPhone()) + "\n");
+            writer.write("Financial year," + financialYear + "\n");
+            writer.write("Generated on," + LocalDate.now() + "\n\n");
+
+            writer.write("Deposits\n");
+            writer.write("Date,Amount,Status,Interest,Total,Return date\n");
+            for (DepositResponse d : deposits) {
+                writer.write(d.getDepositDate() + "," + d.getAmount() + "," + d.getStatus() + ","
+                        + csv(d.getInterestEarned()) + "," + csv(d.getTotalAmount()) + "," + csv(d.getReturnDate()) + "\n");
+            }
+
+            writer.write("\nLoans\n");
+            writer.write("Date,Amount,Status,Interest,Total,Paid,Discount,Remaining,Return date\n");
+            for (LoanResponse l : loans) {
+                writer.write(l.getLoanDate() + "," + l.getLoanAmount() + "," + l.getStatus() + ","
+                        + csv(l.getCurrentInterest()) + "," + csv(l.getCurrentTotal()) + "," + csv(l.getPaidAmount()) + ","
+                        + csv(l.getDiscountAmount()) + ","
+                        + csv(l.getCurrentRemaining() != null ? l.getCurrentRemaining() : l.getRemainingAmount()) + ","
+                        + csv(l.getReturnDate()) + "\n");
+            }
+
+            writer.write("\nTotal deposits," + totalDeposits + "\n");
+            writer.write("Total loans," + totalLoans + "\n");
+            writer.write("Active deposits with interest," + activeDepositsWithInterest + "\n");
+            writer.write("Active loans with interest," + activeLoansWithInterest + "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write statement of member " + member.getId(), e);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write statement of member " + member.getId(), e);
+        }
+    }
+
+    private static String parseFinancialYear(String year) {
+        try {
+            return FinancialYearPeriod.parse(year).getLabel();
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(e.getMessage());
+        }
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
+    private void finish(UUID batchId, String status, String errorMessage) {
+        transactionTemplate.executeWithoutResult(tx -> statementBatchRepository.findById(batchId).ifPresent(batch -> {
+            batch.setStatus(status);
+            batch.setErrorMessage(errorMessage);
+            batch.setFinishedAt(LocalDateTime.now());
+            statementBatchRepository.save(batch);
+        }));
+    }
+
+    private StatementBatchResponse convertToResponse(StatementBatch batch) {
+        StatementBatchResponse response = new StatementBatchResponse();
+        response.setId(batch.getId());
+        response.setFinancialYear(batch.getFinancialYear());
+        response.setStatus(batch.getStatus());
+        response.setOutputDirectory(batch.getOutputDirectory());
+        response.setMembersTotal(batch.getMembersTotal());
+        response.setMembersProcessed(batch.getMembersProcessed());
+        response.setLastMemberId(batch.getLastMemberId());
+        response.setErrorMessage(batch.getErrorMessage());
+        response.setRequestedBy(batch.getRequestedBy());
+        response.setCreatedAt(batch.getCreatedAt());
+        response.setStartedAt(batch.getStartedAt());
+        response.setFinishedAt(batch.getFinishedAt());
+        response.setUpdatedAt(batch.getUpdatedAt());
+        return response;
+    }
+
+    private record Block(List<Member> members,
+                         Map<UUID, List<Deposit>> deposits,
+                         Map<UUID, List<Loan>> loans,
+                         Map<UUID, AccrualSnapshot> depositSnapshots,
+                         Map<UUID, AccrualSnapshot> loanSnapshots) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.SummaryResponse;
+import com.graminbank.event.LedgerChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache for the public summary.
+ * Ledger writes bump the generation after commit; the first request that sees a stale
+ * entry recomputes it while concurrent pollers keep getting the stale copy.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SummaryCacheService {
+
+    private final PublicService publicService;
+
+    @Value("${summary.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${summary.cache.stale-while-revalidate-seconds:60}")
+    private long staleWhileRevalidateSeconds;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Object loadLock = new Object();
+    private volatile CachedSummary current;
+
+    public CachedSummary get() {
+        CachedSummary cached = current;
+        if (cached != null && isFresh(cached)) {
+            return cached;
+        }
+
+        if (cached == null) {
+            synchronized (loadLock) {
+                if (current == null) {
+                    current = load();
+                }
+                return current;
+            }
+        }
+
+        // Stale: one caller revalidates, everyone else is served the stale copy meanwhile
+        if (refreshing.compareAndSet(false, true)) {
+            try {
+                current = load();
+                return current;
+            } finally {
+                refreshing.set(false);
+            }
+        }
+        return cached;
+    }
+
+    public Duration getTtl() {
+        return Duration.ofSeconds(ttlSeconds);
+    }
+
+    public Duration getStaleWhileRevalidate() {
+        return Duration.ofSeconds(staleWhileRevalidateSeconds);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private boolean isFresh(CachedSummary cached) {
+        return cached.generation == generation.get()
+                && System.nanoTime() - cached.loadedAtNanos < getTtl().toNanos();
+    }
+
+    private CachedSummary load() {
+        long loadGeneration = generation.get();
+        SummaryResponse summary = publicService.getSummary();
+        String etag = "\"" + DigestUtils.md5DigestAsHex(summary.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+        log.debug("Summary cache reloaded (generation {}, etag {})", loadGeneration, etag);
+        return new CachedSummary(summary, etag, loadGeneration, System.nanoTime());
+    }
+
+    @Getter
+    public static class CachedSummary {
+        private final SummaryResponse summary;
+        private final String etag;
+        private final long generation;
+        private final long loadedAtNanos;
+
+        CachedSummary(SummaryResponse summary, String etag, long generation, long loadedAtNanos) {
+            this.summary = summary;
+            this.etag = etag;
+            this.generation = generation;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.FinancialTrendResponse;
+import com.graminbank.dto.response.FinancialTrendResponse.YearTrend;
+import com.graminbank.event.LedgerChangedEvent;
+import com.graminbank.model.FinancialYear;
+import com.graminbank.repository.FinancialYearRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Multi-year trend of deposits, loans, interest and profit. Totals per financial year and
+ * status live in the financial_year_trend materialized view (migration V13), which is
+ * refreshed concurrently (readers are never blocked) on a schedule once a ledger write
+ * has marked it dirty.
+ * The folded result is kept in memory, so reads do not touch the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendService {
+
+    private static final Set<String> PAID_OUT_DEPOSIT_STATUSES = Set.of("RETURNED", "SETTLED");
+    // Same definitions as BankTotalsService: carried-forward interest moves into the next year's principal, it is not collected
+    private static final Set<String> INTEREST_RECEIVED_LOAN_STATUSES = Set.of("CLOSED", "SETTLED");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FinancialYearRepository financialYearRepository;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile FinancialTrendResponse current;
+
+    // The view is created by migration V13 and may have missed writes made while no instance was running
+    @EventListener(ApplicationReadyEvent.class)
+    public void refreshOnStartup() {
+        refresh();
+    }
+
+    public FinancialTrendResponse getTrend() {
+        FinancialTrendResponse trend = current;
+        return trend != null ? trend : load();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLedgerChanged(LedgerChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${trend.refresh-interval-ms:30000}")
+    public void refreshIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        long started = System.currentTimeMillis();
+        jdbcTemplate.execute("REFRESH MATERIALIZED VIEW CONCURRENTLY financial_year_trend");
+        load();
+        log.debug("Refreshed financial_year_trend in {} ms", System.currentTimeMillis() - started);
+    }
+
+    private FinancialTrendResponse load() {
+        Set<String> settledYears = financialYearRepository.findAll().stream()
+                .filter(fy -> fy.getSettlementDate() != null)
+                .map(FinancialYear::getYear)
+                .collect(Collectors.toSet());
+
+        Map<String, YearTrend> years = new TreeMap<>();
+        jdbcTemplate.query("SELECT entry_type, financial_year, status, row_count, total_amount, total_interest " +
+                "FROM financial_year_trend", rs -> {
+            String financialYear = rs.getString("financial_year");
+            String status = rs.getString("status");
+            long rowCount = rs.getLong("row_count");
+            BigDecimal amount = rs.getBigDecimal("total_amount");
+            BigDecimal interest = rs.getBigDecimal("total_interest");
+
+            YearTrend year = years.computeIfAbsent(financialYear, fy -> {
+                YearTrend created = new YearTrend();
+                created.setFinancialYear(fy);
+                created.setSettled(settledYears.contains(fy));
+                return created;
+            });
+
+            if ("DEPOSIT".equals(rs.getString("entry_type"))) {
+                year.setDepositCount(year.getDepositCount() + rowCount);
+                year.setTotalDeposits(year.getTotalDeposits().add(amount));
+                if ("ACTIVE".equals(status)) {
+                    year.setActiveDeposits(year.getActiveDeposits().add(amount));
+                } else if (PAID_OUT_DEPOSIT_STATUSES.contains(status)) {
+                    year.setDepositInterest(year.getDepositInterest().add(interest));
+                }
+            } else {
+                year.setLoanCount(year.getLoanCount() + rowCount);
+                year.setTotalLoans(year.getTotalLoans().add(amount));
+                if ("ACTIVE".equals(status)) {
+                    year.setActiveLoans(year.getActiveLoans().add(amount));
+                } else if (INTEREST_RECEIVED_LOAN_STATUSES.contains(status)) {
+                    year.setLoanInterest(year.getLoanInterest().add(interest));
+                }
+            }
+        });
+
+        FinancialTrendResponse trend = new FinancialTrendResponse();
+        trend.setRefreshedAt(LocalDateTime.now());
+        for (YearTrend year : years.values()) {
+            year.setNetProfit(year.getLoanInterest().subtract(year.getDepositInterest()));
+            trend.getYears().add(year);
+        }
+        current = trend;
+        return trend;
+    }
+}
@@ -0,0 +1,119 @@
+package com.graminbank.util;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Columnar interest computation: one tight loop over primitive arrays with no
+ * allocation and no overflow checks, so the JIT can unroll it.
+ * Same formula and rounding as {@link FixedPointInterestCalculator}.
+ *
+ * Callers must keep inputs within {@link #MAX_PRINCIPAL_PAISE}, {@link #MAX_RATE_CENTI}
+ * and {@link #MAX_SPAN_DAYS}; within those bounds the products fit in a long.
+ */
+public final class BatchInterestCalculator {
+
+    public static final long MAX_PRINCIPAL_PAISE = 100_000_000_000L; // ₹100 crore
+    public static final int MAX_RATE_CENTI = 10_000;                  // 100% per month
+    public static final int MAX_SPAN_DAYS = 36_500;                   // ~100 years
+
+    // Below this many rows splitting across threads costs more than it saves
+    public static final int PARALLEL_THRESHOLD = 8_192;
+
+    private static final long RATE_DIVISOR = 10_000L;
+
+    private BatchInterestCalculator() {
+    }
+
+    /**
+     * Writes interest (paise) for rows [from, to) into {@code interestOut}.
+     *
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws IndexOutOfBoundsException if [from, to) is not within the arrays
+     */
+    public static void computeInterest(long[] principalPaise, int[] startEpochDay, int[] rateCenti,
+                                       int endEpochDay, long[] interestOut, int from, int to) {
+        checkLengths(principalPaise, startEpochDay, rateCenti, interestOut.length);
+        Objects.checkFromToIndex(from, to, principalPaise.length);
+        computeRange(principalPaise, startEpochDay, rateCenti, endEpochDay, interestOut, from, to);
+    }
+
+    public static long[] computeInterest(long[] principalPaise, int[] startEpochDay, int[] rateCenti, int endEpochDay) {
+        checkLengths(principalPaise, startEpochDay, rateCenti, principalPaise.length);
+        long[] interest = new long[principalPaise.length];
+        computeRange(principalPaise, startEpochDay, rateCenti, endEpochDay, interest, 0, principalPaise.length);
+        return interest;
+    }
+
+    /**
+     * Same as {@link #computeInterest(long[], int[], int[], int)} but splits large inputs
+     * across the given pool.
+     */
+    public static long[] computeInterest(long[] principalPaise, int[] startEpochDay, int[] rateCenti,
+                                         int endEpochDay, ForkJoinPool pool) {
+        checkLengths(principalPaise, startEpochDay, rateCenti, principalPaise.length);
+        long[] interest = new long[principalPaise.length];
+        if (principalPaise.length < PARALLEL_THRESHOLD) {
+            computeRange(principalPaise, startEpochDay, rateCenti, endEpochDay, interest, 0, principalPaise.length);
+        } else {
+            pool.invoke(new Slice(principalPaise, startEpochDay, rateCenti, endEpochDay, interest, 0, principalPaise.length));
+        }
+        return interest;
+    }
+
+    // Checked once up front so the loop itself stays free of bounds logic
+    private static void checkLengths(long[] principalPaise, int[] startEpochDay, int[] rateCenti, int outLength) {
+        int rows = principalPaise.length;
+        if (startEpochDay.length != rows || rateCenti.length != rows || outLength != rows) {
+            throw new IllegalArgumentException("Column lengths differ: principal=" + rows + ", start=" + startEpochDay.length
+                    + ", rate=" + rateCenti.length + ", out=" + outLength);
+        }
+    }
+
+    private static void computeRange(long[] principalPaise, int[] startEpochDay, int[] rateCenti,
+                                     int endEpochDay, long[] interestOut, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int days = endEpochDay - startEpochDay[i];
+            long months = days <= 0 ? 0 : (days + 29) / 30;
+            long numerator = principalPaise[i] * rateCenti[i] * months;
+            long quotient = numerator / RATE_DIVISOR;
+            long remainder = numerator % RATE_DIVISOR;
+            interestOut[i] = quotient + (Math.abs(remainder) * 2 >= RATE_DIVISOR ? Long.signum(numerator) : 0);
+        }
+    }
+
+    private static final class Slice extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] principalPaise;
+        private final int[] startEpochDay;
+        private final int[] rateCenti;
+        private final int endEpochDay;
+        private final long[] interestOut;
+        private final int from;
+        private final int to;
+
+        Slice(long[] principalPaise, int[] startEpochDay, int[] rateCenti, int endEpochDay,
+              long[] interestOut, int from, int to) {
+            this.principalPaise = principalPaise;
+            this.startEpochDay = startEpochDay;
+            this.rateCenti = rateCenti;
+            this.endEpochDay = endEpochDay;
+            this.interestOut = interestOut;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                computeRange(principalPaise, startEpochDay, rateCenti, endEpochDay, interestOut, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Slice(principalPaise, startEpochDay, rateCenti, endEpochDay, interestOut, from, mid),
+                    new Slice(principalPaise, startEpochDay, rateCenti, endEpochDay, interestOut, mid, to));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.graminbank.util;
 
 import com.graminbank.dto.response.DepositResponse;
+import com.graminbank.model.AccrualSnapshot;
 import com.graminbank.model.Deposit;
 
 import java.math.BigDecimal;
@@ -15,7 +16,7 @@ public class DepositMapper {
         DepositResponse response = convertToResponse(deposit);
 
         if ("ACTIVE".equals(deposit.getStatus())) {
-            BigDecimal currentInterest = InterestCalculator.calculateDepositInterest(
+            BigDecimal currentInterest = FixedPointInterestCalculator.calculateDepositInterest(
                     deposit.getAmount(),
                     deposit.getDepositDate(),
                     LocalDate.now()
@@ -27,6 +28,21 @@ public class DepositMapper {
         return response;
     }
 
+    /**
+     * Same as {@link #convertToResponseWithCurrentInterest(Deposit)} but takes today's
+     * accrual snapshot when one is available instead of recomputing the interest.
+     */
+    public static DepositResponse convertToResponseWithCurrentInterest(Deposit deposit, AccrualSnapshot snapshot) {
+        if (snapshot == null) {
+            return convertToResponseWithCurrentInterest(deposit);
+        }
+
+        DepositResponse response = convertToResponse(deposit);
+        response.setInterestEarned(snapshot.getAccruedInterest());
+        response.setTotalAmount(snapshot.getCurrentTotal());
+        return response;
+    }
+
     public static DepositResponse convertToResponse(Deposit deposit) {
         DepositResponse response = new DepositResponse();
         response.setId(deposit.getId());
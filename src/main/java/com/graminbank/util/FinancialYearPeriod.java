@@ -0,0 +1,161 @@
+package com.graminbank.util;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable April-to-March financial year, e.g. "2024-25" = 2024-04-01 .. 2025-03-31.
+ * Instances for start years {@value #MIN_START_YEAR}..{@value #MAX_START_YEAR} are interned,
+ * and date lookups in that range are a single array index with no allocation.
+ * (Named *Period to keep it apart from the {@code FinancialYear} settlement entity.)
+ */
+public final class FinancialYearPeriod implements Comparable<FinancialYearPeriod> {
+
+    public static final int MIN_START_YEAR = 1950;
+    public static final int MAX_START_YEAR = 2149;
+
+    private static final FinancialYearPeriod[] YEARS = new FinancialYearPeriod[MAX_START_YEAR - MIN_START_YEAR + 1];
+    private static final long FIRST_EPOCH_DAY;
+    // Offset from MIN_START_YEAR for every day in the table, read as unsigned
+    private static final byte[] DAY_TO_YEAR;
+
+    static {
+        for (int i = 0; i < YEARS.length; i++) {
+            YEARS[i] = new FinancialYearPeriod(MIN_START_YEAR + i);
+        }
+        FIRST_EPOCH_DAY = YEARS[0].startEpochDay;
+        DAY_TO_YEAR = new byte[(int) (YEARS[YEARS.length - 1].endEpochDay - FIRST_EPOCH_DAY + 1)];
+        for (int i = 0; i < YEARS.length; i++) {
+            FinancialYearPeriod year = YEARS[i];
+            for (long day = year.startEpochDay; day <= year.endEpochDay; day++) {
+                DAY_TO_YEAR[(int) (day - FIRST_EPOCH_DAY)] = (byte) i;
+            }
+        }
+    }
+
+    private final int startYear;
+    private final String label;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final long startEpochDay;
+    private final long endEpochDay;
+
+    private FinancialYearPeriod(int startYear) {
+        this.startYear = startYear;
+        this.label = startYear + "-" + String.format("%02d", (startYear + 1) % 100);
+        this.startDate = LocalDate.of(startYear, 4, 1);
+        this.endDate = LocalDate.of(startYear + 1, 3, 31);
+        this.startEpochDay = startDate.toEpochDay();
+        this.endEpochDay = endDate.toEpochDay();
+    }
+
+    public static FinancialYearPeriod ofStartYear(int startYear) {
+        if (startYear >= MIN_START_YEAR && startYear <= MAX_START_YEAR) {
+            return YEARS[startYear - MIN_START_YEAR];
+        }
+        return new FinancialYearPeriod(startYear);
+    }
+
+    public static FinancialYearPeriod ofEpochDay(long epochDay) {
+        long index = epochDay - FIRST_EPOCH_DAY;
+        if (index >= 0 && index < DAY_TO_YEAR.length) {
+            return YEARS[DAY_TO_YEAR[(int) index] & 0xFF];
+        }
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return ofStartYear(date.getMonthValue() >= 4 ? date.getYear() : date.getYear() - 1);
+    }
+
+    public static FinancialYearPeriod of(LocalDate date) {
+        return ofEpochDay(date.toEpochDay());
+    }
+
+    public static FinancialYearPeriod current() {
+        return of(LocalDate.now());
+    }
+
+    /**
+     * Parses a label such as "2024-25".
+     *
+     * @throws IllegalArgumentException if the label is malformed or the suffix does not follow the start year
+     */
+    public static FinancialYearPeriod parse(String label) {
+        if (label == null || label.length() != 7 || label.charAt(4) != '-') {
+            throw new IllegalArgumentException("Invalid financial year: " + label);
+        }
+        int startYear = digits(label, 0, 4);
+        int endSuffix = digits(label, 5, 7);
+        if (startYear < 0 || endSuffix != (startYear + 1) % 100) {
+            throw new IllegalArgumentException("Invalid financial year: " + label);
+        }
+        return ofStartYear(startYear);
+    }
+
+    public FinancialYearPeriod next() {
+        return ofStartYear(startYear + 1);
+    }
+
+    public FinancialYearPeriod previous() {
+        return ofStartYear(startYear - 1);
+    }
+
+    public boolean contains(LocalDate date) {
+        long day = date.toEpochDay();
+        return day >= startEpochDay && day <= endEpochDay;
+    }
+
+    public int getStartYear() {
+        return startYear;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public long getStartEpochDay() {
+        return startEpochDay;
+    }
+
+    public long getEndEpochDay() {
+        return endEpochDay;
+    }
+
+    @Override
+    public int compareTo(FinancialYearPeriod other) {
+        return Integer.compare(startYear, other.startYear);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof FinancialYearPeriod other && startYear == other.startYear);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(startYear);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    // Returns -1 if any character in [from, to) is not a digit
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+}
@@ -0,0 +1,125 @@
+package com.graminbank.util;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Integer-only twin of {@link InterestCalculator}.
+ * Works on paise (1/100 rupee) and epoch days, buckets months with integer division
+ * and rounds HALF_UP exactly like the BigDecimal path, so results are identical.
+ * The core methods allocate nothing; the BigDecimal adapters fall back to
+ * {@link InterestCalculator} when disabled or when an input does not fit in paise.
+ */
+public final class FixedPointInterestCalculator {
+
+    // Monthly rates in hundredths of a percent: 2.5% -> 250, 5.0% -> 500
+    public static final int DEPOSIT_RATE_CENTI = 250;
+    public static final int LOAN_RATE_CENTI = 500;
+
+    // paise * (rate / 100 / 100) -> divide by 10^4
+    private static final long RATE_DIVISOR = 10_000L;
+
+    private static volatile boolean enabled = true;
+
+    private FixedPointInterestCalculator() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        FixedPointInterestCalculator.enabled = enabled;
+    }
+
+    /**
+     * 1-30 days = 1 month, 31-60 days = 2 months, etc. Zero or negative spans are 0 months.
+     */
+    public static int months(long startEpochDay, long endEpochDay) {
+        long days = endEpochDay - startEpochDay;
+        if (days <= 0) {
+            return 0;
+        }
+        return (int) ((days + 29) / 30);
+    }
+
+    /**
+     * (Principal × Rate × Months) / 100, in paise, rounded HALF_UP.
+     *
+     * @throws ArithmeticException if the intermediate product overflows a long
+     */
+    public static long interestPaise(long principalPaise, int rateCenti, int months) {
+        if (months <= 0) {
+            return 0L;
+        }
+        long numerator = Math.multiplyExact(Math.multiplyExact(principalPaise, (long) rateCenti), (long) months);
+        return divideHalfUp(numerator, RATE_DIVISOR);
+    }
+
+    public static long depositInterestPaise(long principalPaise, long startEpochDay, long endEpochDay) {
+        return interestPaise(principalPaise, DEPOSIT_RATE_CENTI, months(startEpochDay, endEpochDay));
+    }
+
+    public static long loanInterestPaise(long principalPaise, long startEpochDay, long endEpochDay) {
+        return interestPaise(principalPaise, LOAN_RATE_CENTI, months(startEpochDay, endEpochDay));
+    }
+
+    public static BigDecimal calculateDepositInterest(BigDecimal principal, LocalDate startDate, LocalDate endDate) {
+        BigDecimal interest = calculate(principal, startDate, endDate, DEPOSIT_RATE_CENTI);
+        return interest != null ? interest : InterestCalculator.calculateDepositInterest(principal, startDate, endDate);
+    }
+
+    public static BigDecimal calculateLoanInterest(BigDecimal principal, LocalDate startDate, LocalDate endDate) {
+        BigDecimal interest = calculate(principal, startDate, endDate, LOAN_RATE_CENTI);
+        return interest != null ? interest : InterestCalculator.calculateLoanInterest(principal, startDate, endDate);
+    }
+
+    /**
+     * Converts rupees to paise, or returns {@link Long#MIN_VALUE} if the amount has
+     * sub-paisa precision or does not fit in a long.
+     */
+    public static long toPaise(BigDecimal amount) {
+        if (amount.scale() > 2 || amount.precision() - amount.scale() > 16) {
+            return Long.MIN_VALUE;
+        }
+        return amount.movePointRight(2).longValue();
+    }
+
+    public static BigDecimal fromPaise(long paise) {
+        return BigDecimal.valueOf(paise, 2);
+    }
+
+    // Returns null when the BigDecimal path must be used instead
+    private static BigDecimal calculate(BigDecimal principal, LocalDate startDate, LocalDate endDate, int rateCenti) {
+        if (!enabled || principal == null || startDate == null || endDate == null) {
+            return null;
+        }
+
+        int months = months(startDate.toEpochDay(), endDate.toEpochDay());
+        if (months == 0) {
+            // Same scale as InterestCalculator's early return
+            return BigDecimal.ZERO;
+        }
+
+        long principalPaise = toPaise(principal);
+        if (principalPaise == Long.MIN_VALUE) {
+            return null;
+        }
+
+        try {
+            return fromPaise(interestPaise(principalPaise, rateCenti, months));
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    // BigDecimal HALF_UP semantics: ties round away from zero
+    static long divideHalfUp(long numerator, long divisor) {
+        long quotient = numerator / divisor;
+        long remainder = numerator % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(numerator);
+        }
+        return quotient;
+    }
+}
@@ -72,31 +72,14 @@ public class InterestCalculator {
      * Get current financial year in format "2024-25"
      */
     public static String getCurrentFinancialYear() {
-        LocalDate today = LocalDate.now();
-        int year = today.getYear();
-        int month = today.getMonthValue();
-
-        if (month >= 4) {
-            // April to December: current year to next year
-            return year + "-" + String.format("%02d", (year + 1) % 100);
-        } else {
-            // January to March: previous year to current year
-            return (year - 1) + "-" + String.format("%02d", year % 100);
-        }
+        return FinancialYearPeriod.current().getLabel();
     }
 
     /**
      * Get financial year from a specific date
      */
     public static String getFinancialYearFromDate(LocalDate date) {
-        int year = date.getYear();
-        int month = date.getMonthValue();
-
-        if (month >= 4) {
-            return year + "-" + String.format("%02d", (year + 1) % 100);
-        } else {
-            return (year - 1) + "-" + String.format("%02d", year % 100);
-        }
+        return FinancialYearPeriod.of(date).getLabel();
     }
 
     /**
@@ -0,0 +1,28 @@
+package com.graminbank.util;
+
+/**
+ * SQL (PostgreSQL) fragments that compute the same interest as {@link InterestCalculator}
+ * and {@link FixedPointInterestCalculator}, for use in set-based native queries.
+ * Months use integer division on the day difference (1-30 days = 1 month) and
+ * ROUND on numeric rounds half away from zero, matching HALF_UP.
+ * The fragments expect a {@code :settlementDate} parameter, the date interest runs up to.
+ */
+public final class InterestSql {
+
+    private InterestSql() {
+    }
+
+    // CASE WHEN days <= 0 THEN 0 ELSE (days + 29) / 30 END, days = settlementDate - start
+    public static final String DEPOSIT_MONTHS =
+            "(CASE WHEN CAST(:settlementDate AS date) - d.deposit_date <= 0 THEN 0 " +
+            "ELSE (CAST(:settlementDate AS date) - d.deposit_date + 29) / 30 END)";
+
+    public static final String LOAN_MONTHS =
+            "(CASE WHEN CAST(:settlementDate AS date) - l.loan_date <= 0 THEN 0 " +
+            "ELSE (CAST(:settlementDate AS date) - l.loan_date + 29) / 30 END)";
+
+    // (Principal × Rate × Months) / 100, 2.5% for deposits and 5% for loans
+    public static final String DEPOSIT_INTEREST = "ROUND(d.amount * 2.5 * " + DEPOSIT_MONTHS + " / 100, 2)";
+
+    public static final String LOAN_INTEREST = "ROUND(l.loan_amount * 5.0 * " + LOAN_MONTHS + " / 100, 2)";
+}
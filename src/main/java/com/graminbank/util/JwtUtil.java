@@ -10,12 +10,15 @@ import org.springframework.stereotype.Component;
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
+    public static final String ROLES_CLAIM = "roles";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -35,6 +38,21 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Verifies the signature and expiry and returns the claims; throws a JwtException otherwise.
+     */
+    public Claims parseToken(String token) {
+        return extractAllClaims(token);
+    }
+
+    /**
+     * Roles from the token's roles claim, or null for tokens issued without one.
+     */
+    public List<String> extractRoles(Claims claims) {
+        List<?> roles = claims.get(ROLES_CLAIM, List.class);
+        return roles == null ? null : roles.stream().map(String::valueOf).toList();
+    }
+
     private Claims extractAllClaims(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(getSigningKey())
@@ -47,8 +65,9 @@ public class JwtUtil {
         return extractExpiration(token).before(new Date());
     }
 
-    public String generateToken(String username) {
+    public String generateToken(String username, List<String> roles) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(ROLES_CLAIM, roles);
         return createToken(claims, username);
     }
 
@@ -2,6 +2,7 @@ package com.graminbank.util;
 
 import com.graminbank.dto.response.LoanPaymentResponse;
 import com.graminbank.dto.response.LoanResponse;
+import com.graminbank.model.AccrualSnapshot;
 import com.graminbank.model.Loan;
 import com.graminbank.model.LoanPayment;
 
@@ -38,7 +39,7 @@ public class LoanMapper {
         response.setNotes(loan.getNotes());
 
         if ("ACTIVE".equals(loan.getStatus())) {
-            BigDecimal currentInterest = InterestCalculator.calculateLoanInterest(
+            BigDecimal currentInterest = FixedPointInterestCalculator.calculateLoanInterest(
                     loan.getLoanAmount(),
                     loan.getLoanDate(),
                     LocalDate.now()
@@ -55,6 +56,24 @@ public class LoanMapper {
         return response;
     }
 
+    /**
+     * Same as {@link #convertToResponseWithCurrentInterest(Loan)} but takes today's
+     * accrual snapshot when one is available instead of recomputing the interest.
+     */
+    public static LoanResponse convertToResponseWithCurrentInterest(Loan loan, AccrualSnapshot snapshot) {
+        if (snapshot == null) {
+            return convertToResponseWithCurrentInterest(loan);
+        }
+
+        LoanResponse response = convertToResponse(loan);
+        response.setInterestRate(loan.getInterestRate());
+        response.setNotes(loan.getNotes());
+        response.setCurrentInterest(snapshot.getAccruedInterest());
+        response.setCurrentTotal(snapshot.getCurrentTotal());
+        response.setCurrentRemaining(snapshot.getCurrentRemaining());
+        return response;
+    }
+
     public static LoanPaymentResponse convertPaymentToResponse(LoanPayment payment, Loan loan) {
         LoanPaymentResponse response = new LoanPaymentResponse();
         response.setId(payment.getId());
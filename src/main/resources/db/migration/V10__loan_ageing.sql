@@ -0,0 +1,3 @@
+-- Loan ageing report (LoanRepository.getActiveLoanAgeing): ACTIVE loans by loan date.
+
+CREATE INDEX IF NOT EXISTS idx_loans_status_loan_date ON loans (status, loan_date);
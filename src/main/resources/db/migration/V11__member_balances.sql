@@ -0,0 +1,20 @@
+-- Per-member running totals behind the dashboard and statement (MemberBalanceService).
+-- Rows are seeded from the ledger on a member's first read or write, so no backfill is needed.
+
+CREATE TABLE IF NOT EXISTS member_balances (
+    member_id UUID NOT NULL,
+    total_deposited NUMERIC(15, 2),
+    deposit_count BIGINT,
+    active_deposits NUMERIC(15, 2),
+    active_deposits_count BIGINT,
+    deposit_interest_paid NUMERIC(15, 2),
+    total_borrowed NUMERIC(15, 2),
+    loan_count BIGINT,
+    active_loans NUMERIC(15, 2),
+    active_loans_count BIGINT,
+    loan_interest_paid NUMERIC(15, 2),
+    total_paid NUMERIC(15, 2),
+    total_discount NUMERIC(15, 2),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (member_id)
+);
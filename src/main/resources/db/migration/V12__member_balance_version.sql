@@ -0,0 +1,3 @@
+-- Per-member version behind the dashboard and statement ETags (MemberViewCacheService).
+
+ALTER TABLE member_balances ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
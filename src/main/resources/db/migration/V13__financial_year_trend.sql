@@ -0,0 +1,14 @@
+-- Multi-year trend (TrendService): totals per financial year and status, refreshed by the application.
+
+CREATE MATERIALIZED VIEW IF NOT EXISTS financial_year_trend AS
+SELECT 'DEPOSIT' AS entry_type, financial_year, status, COUNT(*) AS row_count,
+       COALESCE(SUM(amount), 0) AS total_amount, COALESCE(SUM(interest_earned), 0) AS total_interest
+FROM deposits GROUP BY financial_year, status
+UNION ALL
+SELECT 'LOAN', financial_year, status, COUNT(*),
+       COALESCE(SUM(loan_amount), 0), COALESCE(SUM(interest_amount), 0)
+FROM loans GROUP BY financial_year, status;
+
+-- REFRESH ... CONCURRENTLY needs a unique index covering every row
+CREATE UNIQUE INDEX IF NOT EXISTS ux_financial_year_trend
+    ON financial_year_trend (entry_type, financial_year, status);
@@ -0,0 +1,97 @@
+-- Schema as deployed before migrations were introduced. Existing databases are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+CREATE TABLE admin_users (
+    id UUID NOT NULL,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    email VARCHAR(100) NOT NULL UNIQUE,
+    role VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE members (
+    id UUID NOT NULL,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    phone VARCHAR(15),
+    pin VARCHAR(4),
+    joining_date DATE NOT NULL,
+    is_active BOOLEAN,
+    is_operator BOOLEAN,
+    is_blocked BOOLEAN,
+    failed_login_attempts INTEGER,
+    last_failed_login TIMESTAMP(6),
+    blocked_until TIMESTAMP(6),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE deposits (
+    id UUID NOT NULL,
+    member_id UUID NOT NULL,
+    amount NUMERIC(12, 2) NOT NULL,
+    deposit_date DATE NOT NULL,
+    interest_rate NUMERIC(5, 2) NOT NULL,
+    financial_year VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    interest_earned NUMERIC(12, 2),
+    total_amount NUMERIC(12, 2),
+    return_date DATE,
+    notes TEXT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_deposits_member FOREIGN KEY (member_id) REFERENCES members
+);
+
+CREATE TABLE loans (
+    id UUID NOT NULL,
+    member_id UUID NOT NULL,
+    loan_amount NUMERIC(12, 2) NOT NULL,
+    loan_date DATE NOT NULL,
+    interest_rate NUMERIC(5, 2) NOT NULL,
+    financial_year VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    interest_amount NUMERIC(12, 2),
+    total_repayment NUMERIC(12, 2),
+    paid_amount NUMERIC(12, 2),
+    remaining_amount NUMERIC(12, 2),
+    discount_amount NUMERIC(12, 2),
+    return_date DATE,
+    notes TEXT,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_loans_member FOREIGN KEY (member_id) REFERENCES members
+);
+
+CREATE TABLE loan_payments (
+    id UUID NOT NULL,
+    loan_id UUID NOT NULL,
+    payment_amount NUMERIC(12, 2) NOT NULL,
+    payment_date DATE NOT NULL,
+    discount_applied NUMERIC(12, 2),
+    notes TEXT,
+    created_by VARCHAR(100),
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_loan_payments_loan FOREIGN KEY (loan_id) REFERENCES loans
+);
+
+CREATE TABLE financial_years (
+    id UUID NOT NULL,
+    year VARCHAR(4) NOT NULL UNIQUE,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    total_deposits NUMERIC(15, 2),
+    total_loans NUMERIC(15, 2),
+    total_interest_earned NUMERIC(15, 2),
+    total_interest_paid NUMERIC(15, 2),
+    net_balance NUMERIC(15, 2),
+    settlement_date DATE,
+    is_active BOOLEAN,
+    PRIMARY KEY (id)
+);
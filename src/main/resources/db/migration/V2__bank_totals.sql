@@ -0,0 +1,19 @@
+-- Single-row running totals behind the public summary (BankTotalsService).
+-- IF NOT EXISTS: databases run with ddl-auto=update may already have it.
+
+CREATE TABLE IF NOT EXISTS bank_totals (
+    id INTEGER NOT NULL,
+    total_deposit_collected NUMERIC(15, 2),
+    total_loan_repayments_received NUMERIC(15, 2),
+    total_loan_repaid NUMERIC(15, 2),
+    total_loans_disbursed NUMERIC(15, 2),
+    total_deposit_principal_returned NUMERIC(15, 2),
+    total_deposit_interest_paid NUMERIC(15, 2),
+    total_loan_interest_received NUMERIC(15, 2),
+    active_deposits NUMERIC(15, 2),
+    active_deposits_count BIGINT,
+    active_loans NUMERIC(15, 2),
+    active_loans_count BIGINT,
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
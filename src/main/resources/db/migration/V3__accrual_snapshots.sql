@@ -0,0 +1,15 @@
+-- Daily interest snapshot per ACTIVE deposit/loan, keyed by its id (AccrualService).
+
+CREATE TABLE IF NOT EXISTS accrual_snapshots (
+    id UUID NOT NULL,
+    entry_type VARCHAR(10) NOT NULL,
+    member_id UUID NOT NULL,
+    accrual_date DATE NOT NULL,
+    accrued_interest NUMERIC(12, 2),
+    current_total NUMERIC(12, 2),
+    current_remaining NUMERIC(12, 2),
+    source_updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_accrual_snapshots_accrual_date ON accrual_snapshots (accrual_date);
@@ -0,0 +1,22 @@
+-- Resumable year-end settlement progress, one row per financial year (SettlementService).
+
+CREATE TABLE IF NOT EXISTS settlement_checkpoints (
+    financial_year VARCHAR(10) NOT NULL,
+    phase VARCHAR(20) NOT NULL,
+    settlement_date DATE NOT NULL,
+    deposits_settled BIGINT,
+    total_deposit_amount NUMERIC(15, 2),
+    total_deposit_interest NUMERIC(15, 2),
+    loans_carried_forward BIGINT,
+    total_loan_amount NUMERIC(15, 2),
+    total_loan_interest NUMERIC(15, 2),
+    started_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    completed_at TIMESTAMP(6),
+    PRIMARY KEY (financial_year)
+);
+
+-- Labels are "2024-25"; settlement writes them to financial_years, which was sized for "2024"
+ALTER TABLE financial_years ALTER COLUMN year TYPE VARCHAR(10);
+-- Tables created by ddl-auto=update before the entity was fixed
+ALTER TABLE settlement_checkpoints ALTER COLUMN financial_year TYPE VARCHAR(10);
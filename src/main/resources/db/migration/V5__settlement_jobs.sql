@@ -0,0 +1,22 @@
+-- Background settlement runs with progress and ETA (SettlementJobService).
+
+CREATE TABLE IF NOT EXISTS settlement_jobs (
+    id UUID NOT NULL,
+    financial_year VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    phase VARCHAR(20),
+    rows_total BIGINT,
+    rows_processed BIGINT,
+    rows_per_second NUMERIC(12, 2),
+    eta_seconds BIGINT,
+    error_message TEXT,
+    requested_by VARCHAR(100),
+    created_at TIMESTAMP(6),
+    started_at TIMESTAMP(6),
+    finished_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+-- Tables created by ddl-auto=update before the entity was fixed
+ALTER TABLE settlement_jobs ALTER COLUMN financial_year TYPE VARCHAR(10);
@@ -0,0 +1,30 @@
+-- Month-end close (MonthlyClosingService), one row per calendar month.
+
+CREATE TABLE IF NOT EXISTS monthly_closings (
+    id UUID NOT NULL,
+    financial_year VARCHAR(10) NOT NULL,
+    closing_month DATE NOT NULL,
+    closed_at TIMESTAMP(6) NOT NULL,
+    deposits_collected NUMERIC(15, 2),
+    deposits_count BIGINT,
+    loans_disbursed NUMERIC(15, 2),
+    loans_count BIGINT,
+    loan_repayments NUMERIC(15, 2),
+    ytd_deposits_collected NUMERIC(15, 2),
+    ytd_loans_disbursed NUMERIC(15, 2),
+    ytd_loan_repayments NUMERIC(15, 2),
+    active_deposits NUMERIC(15, 2),
+    active_deposits_count BIGINT,
+    active_loans NUMERIC(15, 2),
+    active_loans_count BIGINT,
+    projected_deposit_interest NUMERIC(15, 2),
+    projected_loan_interest NUMERIC(15, 2),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_monthly_closings_month UNIQUE (closing_month)
+);
+
+-- Tables created by ddl-auto=update before the entity was fixed
+ALTER TABLE monthly_closings ALTER COLUMN financial_year TYPE VARCHAR(10);
+-- Per-row year-end projections are no longer kept; the close computes its totals in SQL
+ALTER TABLE monthly_closings DROP COLUMN IF EXISTS rows_reprojected;
+DROP TABLE IF EXISTS settlement_projections;
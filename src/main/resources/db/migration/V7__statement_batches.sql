@@ -0,0 +1,21 @@
+-- Resumable batch statement runs (StatementBatchService).
+
+CREATE TABLE IF NOT EXISTS statement_batches (
+    id UUID NOT NULL,
+    financial_year VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    members_total BIGINT,
+    members_processed BIGINT,
+    last_member_id UUID,
+    output_directory VARCHAR(500) NOT NULL,
+    error_message TEXT,
+    requested_by VARCHAR(100),
+    created_at TIMESTAMP(6),
+    started_at TIMESTAMP(6),
+    finished_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+-- Tables created by ddl-auto=update before the entity was fixed
+ALTER TABLE statement_batches ALTER COLUMN financial_year TYPE VARCHAR(10);
@@ -0,0 +1,15 @@
+-- JSON reports of settled financial years (ReportCacheService).
+
+CREATE TABLE IF NOT EXISTS report_cache (
+    cache_key VARCHAR(255) NOT NULL,
+    report_type VARCHAR(50) NOT NULL,
+    financial_year VARCHAR(10) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (cache_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_report_cache_financial_year ON report_cache (financial_year);
+
+-- Tables created by ddl-auto=update before the entity was fixed
+ALTER TABLE report_cache ALTER COLUMN financial_year TYPE VARCHAR(10);
@@ -0,0 +1,19 @@
+-- Cash flow report (CashFlowService): date indexes for its range scans, and an explicit
+-- link from a carried-forward loan to the loan it replaced so it is not counted as a disbursement.
+
+CREATE INDEX IF NOT EXISTS idx_deposits_deposit_date ON deposits (deposit_date);
+CREATE INDEX IF NOT EXISTS idx_deposits_return_date ON deposits (return_date);
+CREATE INDEX IF NOT EXISTS idx_loan_payments_payment_date ON loan_payments (payment_date);
+CREATE INDEX IF NOT EXISTS idx_loans_loan_date ON loans (loan_date);
+
+ALTER TABLE loans ADD COLUMN IF NOT EXISTS carried_forward_from UUID;
+
+-- Link loans carried forward before the column existed: the successor starts the day after the
+-- old loan was closed, for the same member, with the old loan's balance as its principal
+UPDATE loans l SET carried_forward_from = o.id
+FROM loans o
+WHERE l.carried_forward_from IS NULL
+  AND o.status = 'CARRIED_FORWARD'
+  AND o.member_id = l.member_id
+  AND o.return_date = l.loan_date - 1
+  AND o.total_repayment - o.paid_amount = l.loan_amount;
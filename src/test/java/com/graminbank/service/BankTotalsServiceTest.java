@@ -0,0 +1,62 @@
+package com.graminbank.service;
+
+import com.graminbank.model.BankTotals;
+import com.graminbank.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BankTotalsServiceTest extends PostgresIntegrationTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private BankTotalsService bankTotalsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void clearTotals() {
+        jdbcTemplate.update("DELETE FROM bank_totals");
+    }
+
+    @Test
+    void concurrentFirstReadsSeedOneRow() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<BankTotals>> reads = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                reads.add(pool.submit(() -> {
+                    start.await();
+                    return bankTotalsService.getTotals();
+                }));
+            }
+            start.countDown();
+            for (Future<BankTotals> read : reads) {
+                assertThat(read.get().getId()).isEqualTo(BankTotals.SINGLETON_ID);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bank_totals", Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    void rebuildSeedsMissingRow() {
+        assertThat(bankTotalsService.rebuild().isDriftDetected()).isTrue();
+        assertThat(bankTotalsService.rebuild().isDriftDetected()).isFalse();
+    }
+}
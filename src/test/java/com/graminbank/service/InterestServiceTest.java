@@ -0,0 +1,143 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.request.BulkInterestRequest;
+import com.graminbank.dto.response.BulkInterestResponse;
+import com.graminbank.exception.BusinessException;
+import com.graminbank.util.BatchInterestCalculator;
+import com.graminbank.util.FixedPointInterestCalculator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The bulk interest endpoint must price every row exactly as the single-row calculator does,
+ * and refuse requests outside the bounds the batch engine is safe for.
+ */
+class InterestServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2025, 3, 31);
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    private final InterestService interestService = new InterestService();
+
+    @BeforeAll
+    static void startValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void stopValidator() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void loanRowsMatchSingleRowCalculatorBelowTheSplitThreshold() {
+        assertMatchesSingleRow(request("LOAN", 500, 5L), FixedPointInterestCalculator.LOAN_RATE_CENTI);
+    }
+
+    @Test
+    void depositRowsMatchSingleRowCalculatorAboveTheSplitThreshold() {
+        BulkInterestRequest request = request("DEPOSIT", BatchInterestCalculator.PARALLEL_THRESHOLD * 3 + 17, 6L);
+        assertThat(validator.validate(request)).isEmpty();
+        assertMatchesSingleRow(request, FixedPointInterestCalculator.DEPOSIT_RATE_CENTI);
+    }
+
+    @Test
+    void rowsWithTheirOwnRateUseIt() {
+        BulkInterestRequest request = request("LOAN", 1, 7L);
+        BulkInterestRequest.Row row = request.getRows().get(0);
+        row.setInterestRate(new BigDecimal("3.75"));
+
+        BulkInterestResponse.Row result = interestService.calculateBulk(request).getRows().get(0);
+
+        int months = FixedPointInterestCalculator.months(row.getStartDate().toEpochDay(), AS_OF.toEpochDay());
+        long expected = FixedPointInterestCalculator.interestPaise(
+                FixedPointInterestCalculator.toPaise(row.getPrincipal()), 375, months);
+        assertThat(result.getInterestRate()).isEqualByComparingTo("3.75");
+        assertThat(result.getInterest()).isEqualTo(FixedPointInterestCalculator.fromPaise(expected));
+    }
+
+    @Test
+    void rejectsStartDatesBeyondTheSpanLimit() {
+        BulkInterestRequest request = request("LOAN", 3, 8L);
+        request.getRows().get(2).setStartDate(AS_OF.minusDays(BatchInterestCalculator.MAX_SPAN_DAYS + 1));
+
+        assertThatThrownBy(() -> interestService.calculateBulk(request))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void rejectsEmptyAndOversizedRequests() {
+        BulkInterestRequest empty = request("LOAN", 0, 9L);
+        assertThat(validator.validate(empty)).extracting(v -> v.getPropertyPath().toString()).containsExactly("rows");
+
+        BulkInterestRequest oversized = request("LOAN", 1, 10L);
+        oversized.setRows(new ArrayList<>(Collections.nCopies(50_001, oversized.getRows().get(0))));
+        assertThat(validator.validate(oversized)).extracting(v -> v.getPropertyPath().toString()).containsExactly("rows");
+    }
+
+    @Test
+    void rejectsRowsOutsideTheBatchBounds() {
+        BulkInterestRequest request = request("LOAN", 3, 11L);
+        request.getRows().get(0).setPrincipal(new BigDecimal("1000000000.01"));
+        request.getRows().get(1).setInterestRate(new BigDecimal("100.01"));
+        request.getRows().get(2).setPrincipal(new BigDecimal("10.005"));
+
+        assertThat(validator.validate(request)).extracting(v -> v.getPropertyPath().toString())
+                .containsExactlyInAnyOrder("rows[0].principal", "rows[1].interestRate", "rows[2].principal");
+    }
+
+    private void assertMatchesSingleRow(BulkInterestRequest request, int rateCenti) {
+        BulkInterestResponse response = interestService.calculateBulk(request);
+
+        assertThat(response.getRows()).hasSameSizeAs(request.getRows());
+        BigDecimal totalInterest = BigDecimal.ZERO;
+        for (int i = 0; i < request.getRows().size(); i++) {
+            BulkInterestRequest.Row row = request.getRows().get(i);
+            BigDecimal expected = "DEPOSIT".equals(request.getType())
+                    ? FixedPointInterestCalculator.calculateDepositInterest(row.getPrincipal(), row.getStartDate(), AS_OF)
+                    : FixedPointInterestCalculator.calculateLoanInterest(row.getPrincipal(), row.getStartDate(), AS_OF);
+
+            BulkInterestResponse.Row result = response.getRows().get(i);
+            assertThat(result.getInterest()).as("row %d", i).isEqualByComparingTo(expected);
+            assertThat(result.getTotal()).as("row %d", i).isEqualByComparingTo(row.getPrincipal().add(expected));
+            assertThat(result.getInterestRate()).isEqualTo(BigDecimal.valueOf(rateCenti, 2));
+            totalInterest = totalInterest.add(expected);
+        }
+        assertThat(response.getTotalInterest()).isEqualByComparingTo(totalInterest);
+    }
+
+    private static BulkInterestRequest request(String type, int rows, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<BulkInterestRequest.Row> generated = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            BulkInterestRequest.Row row = new BulkInterestRequest.Row();
+            row.setPrincipal(BigDecimal.valueOf(random.nextLong(1, 100_000_000_001L), 2));
+            // Includes start dates after the as-of date, which earn nothing
+            row.setStartDate(AS_OF.minusDays(random.nextInt(-60, BatchInterestCalculator.MAX_SPAN_DAYS + 1)));
+            generated.add(row);
+        }
+
+        BulkInterestRequest request = new BulkInterestRequest();
+        request.setAsOfDate(AS_OF);
+        request.setType(type);
+        request.setRows(generated);
+        return request;
+    }
+}
@@ -0,0 +1,71 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.MemberDashboardResponse;
+import com.graminbank.service.MemberViewCacheService.CachedView;
+import com.graminbank.support.PostgresIntegrationTest;
+import com.graminbank.support.SettlementLedger;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statements issued for a member dashboard, counted with Hibernate statistics.
+ */
+class MemberDashboardQueryCountTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private MemberAuthService memberAuthService;
+
+    @Autowired
+    private MemberBalanceService memberBalanceService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void dashboardTakesThreeQueriesPlusTheVersionLookup() {
+        new SettlementLedger(jdbcTemplate).load(20, 7L);
+        memberBalanceService.rebuild();
+        UUID memberId = jdbcTemplate.queryForObject(
+                "SELECT member_id FROM deposits WHERE status = 'ACTIVE' " +
+                "INTERSECT SELECT member_id FROM loans WHERE status = 'ACTIVE' ORDER BY 1 LIMIT 1", UUID.class);
+
+        // Built: member_balances by id for the tag, then deposits and loans with their member and the accrual snapshots
+        statistics.clear();
+        CachedView<MemberDashboardResponse> built = memberAuthService.getMemberDashboard(memberId);
+        assertThat(built.getBody().getDeposits()).isNotEmpty();
+        assertThat(built.getBody().getLoans()).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+
+        // Cached: only the version lookup
+        statistics.clear();
+        CachedView<MemberDashboardResponse> cached = memberAuthService.getMemberDashboard(memberId);
+        assertThat(cached.getEtag()).isEqualTo(built.getEtag());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
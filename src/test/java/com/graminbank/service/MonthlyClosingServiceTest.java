@@ -0,0 +1,73 @@
+package com.graminbank.service;
+
+import com.graminbank.model.MonthlyClosing;
+import com.graminbank.support.PostgresIntegrationTest;
+import com.graminbank.support.SettlementLedger;
+import com.graminbank.util.FinancialYearPeriod;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonthlyClosingServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private MonthlyClosingService monthlyClosingService;
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private BankTotalsService bankTotalsService;
+
+    @Autowired
+    private MemberBalanceService memberBalanceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void yearToDateTotalsDoNotDependOnEarlierClosings() {
+        new SettlementLedger(jdbcTemplate).load(40, 5L);
+        jdbcTemplate.update("DELETE FROM monthly_closings");
+        YearMonth month = YearMonth.now();
+        LocalDate yearStart = FinancialYearPeriod.of(month.atDay(1)).getStartDate();
+
+        // No earlier month of the year has been closed
+        MonthlyClosing closing = monthlyClosingService.closeMonth(month);
+
+        assertThat(closing.getYtdDepositsCollected()).isEqualByComparingTo(sum(
+                "SELECT COALESCE(SUM(amount), 0) FROM deposits WHERE deposit_date BETWEEN ? AND ?", yearStart, month));
+        assertThat(closing.getYtdLoansDisbursed()).isEqualByComparingTo(sum(
+                "SELECT COALESCE(SUM(loan_amount), 0) FROM loans WHERE loan_date BETWEEN ? AND ?", yearStart, month));
+        assertThat(closing.getYtdDepositsCollected()).isPositive();
+    }
+
+    @Test
+    void carriedForwardLoansAreNotDisbursements() {
+        new SettlementLedger(jdbcTemplate).load(40, 5L);
+        bankTotalsService.rebuild();
+        memberBalanceService.rebuild();
+        settlementService.settleFinancialYear();
+        // Carried-forward loans start the day after settlement
+        YearMonth month = YearMonth.from(LocalDate.now().plusDays(1));
+        assertThat(sum("SELECT COALESCE(SUM(loan_amount), 0) FROM loans WHERE carried_forward_from IS NOT NULL " +
+                "AND loan_date BETWEEN ? AND ?", month.atDay(1), month)).isPositive();
+
+        MonthlyClosing closing = monthlyClosingService.closeMonth(month);
+
+        assertThat(closing.getLoansDisbursed()).isEqualByComparingTo(sum(
+                "SELECT COALESCE(SUM(loan_amount), 0) FROM loans WHERE carried_forward_from IS NULL " +
+                "AND loan_date BETWEEN ? AND ?", month.atDay(1), month));
+    }
+
+    private BigDecimal sum(String sql, LocalDate from, YearMonth month) {
+        return jdbcTemplate.queryForObject(sql, BigDecimal.class, Date.valueOf(from), Date.valueOf(month.atEndOfMonth()));
+    }
+}
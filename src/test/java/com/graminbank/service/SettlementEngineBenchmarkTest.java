@@ -0,0 +1,84 @@
+package com.graminbank.service;
+
+import com.graminbank.support.PostgresIntegrationTest;
+import com.graminbank.support.SettlementLedger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Times the chunked, parallel and set-based settlement engines on the same generated ledger.
+ * Opt-in, as it takes a while on a realistic ledger:
+ * {@code mvn test -Dtest=SettlementEngineBenchmarkTest -Dbenchmark=true}, with
+ * {@code -Dbenchmark.members=N} to change the ledger size (about 3 settled rows per member).
+ * The default is a book of about 500k rows, which the chunked engine takes many minutes over.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SettlementEngineBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final long SEED = 11L;
+    private static final List<String> ENGINES = List.of("chunked", "parallel", "sql");
+    // About 3.8 deposit and loan rows per generated member
+    private static final int DEFAULT_MEMBERS = 130_000;
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private BankTotalsService bankTotalsService;
+
+    @Autowired
+    private MemberBalanceService memberBalanceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void restoreEngine() {
+        ReflectionTestUtils.setField(settlementService, "engine", "chunked");
+    }
+
+    @Test
+    void compareEngines() {
+        int members = Integer.getInteger("benchmark.members", DEFAULT_MEMBERS);
+        Map<String, Long> rowsSettled = new LinkedHashMap<>();
+        Map<String, Long> elapsed = new LinkedHashMap<>();
+
+        for (String engine : ENGINES) {
+            new SettlementLedger(jdbcTemplate).load(members, SEED);
+            bankTotalsService.rebuild();
+            memberBalanceService.rebuild();
+            ReflectionTestUtils.setField(settlementService, "engine", engine);
+
+            long started = System.nanoTime();
+            settlementService.settleFinancialYear();
+            long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+            long rows = jdbcTemplate.queryForObject(
+                    "SELECT deposits_settled + loans_carried_forward FROM settlement_checkpoints", Long.class);
+            rowsSettled.put(engine, rows);
+            elapsed.put(engine, elapsedMs);
+            log.info("Settlement engine={} rows={} time={} ms rows/s={}",
+                    engine, rows, elapsedMs, Math.round(rows * 1000.0 / Math.max(1, elapsedMs)));
+        }
+
+        long chunkedMs = Math.max(1, elapsed.get("chunked"));
+        for (String engine : List.of("parallel", "sql")) {
+            log.info("Settlement engine={} speedup over chunked={}x", engine,
+                    String.format("%.2f", chunkedMs / (double) Math.max(1, elapsed.get(engine))));
+        }
+
+        assertThat(rowsSettled.values()).containsOnly(rowsSettled.get("chunked"));
+    }
+}
@@ -0,0 +1,125 @@
+package com.graminbank.service;
+
+import com.graminbank.support.PostgresIntegrationTest;
+import com.graminbank.support.SettlementLedger;
+import com.graminbank.util.FinancialYearPeriod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The set-based and parallel settlement engines must leave the database exactly as the
+ * chunked loop does: every settled row, every carried-forward loan, the checkpoint,
+ * the financial year record, bank totals and member balances.
+ */
+class SettlementEngineEquivalenceTest extends PostgresIntegrationTest {
+
+    private static final long SEED = 2024L;
+    private static final int MEMBERS = 40;
+    // Small enough that every engine goes through many chunks
+    private static final int CHUNK_SIZE = 7;
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private BankTotalsService bankTotalsService;
+
+    @Autowired
+    private MemberBalanceService memberBalanceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void restoreEngine() {
+        ReflectionTestUtils.setField(settlementService, "engine", "chunked");
+        ReflectionTestUtils.setField(settlementService, "chunkSize", 200);
+    }
+
+    @Test
+    void sqlEngineMatchesChunkedLoop() {
+        Map<String, List<Map<String, Object>>> chunked = settleWith("chunked");
+        assertThat(chunked.get("carriedForward")).isNotEmpty();
+        assertThat(settleWith("sql")).isEqualTo(chunked);
+    }
+
+    @Test
+    void parallelEngineMatchesChunkedLoop() {
+        Map<String, List<Map<String, Object>>> chunked = settleWith("chunked");
+        assertThat(settleWith("parallel")).isEqualTo(chunked);
+    }
+
+    @Test
+    void sqlEngineRebuildsOnlyTheSettledMembers() {
+        loadLedger();
+        List<UUID> before = jdbcTemplate.queryForList(
+                "SELECT member_id FROM member_balances ORDER BY member_id", UUID.class);
+        ReflectionTestUtils.setField(settlementService, "engine", "sql");
+
+        settlementService.settleFinancialYear();
+
+        List<UUID> rebuilt = jdbcTemplate.queryForList(
+                "SELECT member_id FROM member_balances WHERE version > 0 ORDER BY member_id", UUID.class);
+        List<UUID> settled = jdbcTemplate.queryForList(
+                "SELECT member_id FROM deposits WHERE status = 'SETTLED' AND financial_year = ? " +
+                "UNION SELECT member_id FROM loans WHERE status = 'CARRIED_FORWARD' AND financial_year = ? ORDER BY 1",
+                UUID.class, FinancialYearPeriod.current().getLabel(), FinancialYearPeriod.current().getLabel());
+        assertThat(rebuilt).isNotEmpty().isEqualTo(settled);
+        assertThat(before).hasSizeGreaterThan(settled.size());
+    }
+
+    /**
+     * Loads the generated ledger, settles the current year with {@code engine} and
+     * returns everything settlement writes, without ids and timestamps that differ per run.
+     */
+    private Map<String, List<Map<String, Object>>> settleWith(String engine) {
+        loadLedger();
+        ReflectionTestUtils.setField(settlementService, "engine", engine);
+        ReflectionTestUtils.setField(settlementService, "chunkSize", CHUNK_SIZE);
+
+        settlementService.settleFinancialYear();
+
+        return Map.of(
+                "deposits", jdbcTemplate.queryForList(
+                        "SELECT id, member_id, amount, financial_year, status, interest_earned, total_amount, return_date " +
+                        "FROM deposits ORDER BY id"),
+                "loans", jdbcTemplate.queryForList(
+                        "SELECT id, member_id, loan_amount, financial_year, status, interest_amount, total_repayment, " +
+                        "paid_amount, remaining_amount, return_date FROM loans WHERE carried_forward_from IS NULL ORDER BY id"),
+                "carriedForward", jdbcTemplate.queryForList(
+                        "SELECT carried_forward_from, member_id, loan_amount, loan_date, interest_rate, financial_year, status, " +
+                        "interest_amount, total_repayment, discount_amount, paid_amount, remaining_amount " +
+                        "FROM loans WHERE carried_forward_from IS NOT NULL ORDER BY carried_forward_from"),
+                "checkpoint", jdbcTemplate.queryForList(
+                        "SELECT financial_year, phase, settlement_date, deposits_settled, total_deposit_amount, " +
+                        "total_deposit_interest, loans_carried_forward, total_loan_amount, total_loan_interest " +
+                        "FROM settlement_checkpoints"),
+                "financialYear", jdbcTemplate.queryForList(
+                        "SELECT year, start_date, end_date, total_deposits, total_loans, total_interest_earned, " +
+                        "total_interest_paid, net_balance, settlement_date, is_active FROM financial_years"),
+                "bankTotals", jdbcTemplate.queryForList(
+                        "SELECT total_deposit_collected, total_loan_repayments_received, total_loan_repaid, " +
+                        "total_loans_disbursed, total_deposit_principal_returned, total_deposit_interest_paid, " +
+                        "total_loan_interest_received, active_deposits, active_deposits_count, active_loans, " +
+                        "active_loans_count FROM bank_totals"),
+                "memberBalances", jdbcTemplate.queryForList(
+                        "SELECT member_id, total_deposited, deposit_count, active_deposits, active_deposits_count, " +
+                        "deposit_interest_paid, total_borrowed, loan_count, active_loans, active_loans_count, " +
+                        "loan_interest_paid, total_paid, total_discount FROM member_balances ORDER BY member_id"));
+    }
+
+    private void loadLedger() {
+        new SettlementLedger(jdbcTemplate).load(MEMBERS, SEED);
+        bankTotalsService.rebuild();
+        memberBalanceService.rebuild();
+    }
+}
@@ -0,0 +1,47 @@
+package com.graminbank.service;
+
+import com.graminbank.exception.BusinessException;
+import com.graminbank.support.PostgresIntegrationTest;
+import com.graminbank.support.SettlementLedger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SettlementServiceTest extends PostgresIntegrationTest {
+
+    private static final String FINANCIAL_YEAR_ROW =
+            "SELECT year, total_deposits, total_loans, total_interest_earned, total_interest_paid, net_balance " +
+            "FROM financial_years";
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private BankTotalsService bankTotalsService;
+
+    @Autowired
+    private MemberBalanceService memberBalanceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void settledYearIsNotSettledAgain() {
+        new SettlementLedger(jdbcTemplate).load(20, 3L);
+        bankTotalsService.rebuild();
+        memberBalanceService.rebuild();
+
+        settlementService.settleFinancialYear();
+        List<Map<String, Object>> settled = jdbcTemplate.queryForList(FINANCIAL_YEAR_ROW);
+
+        assertThatThrownBy(() -> settlementService.settleFinancialYear())
+                .isInstanceOf(BusinessException.class);
+        assertThat(jdbcTemplate.queryForList(FINANCIAL_YEAR_ROW)).isEqualTo(settled);
+    }
+}
@@ -0,0 +1,66 @@
+package com.graminbank.service;
+
+import com.graminbank.dto.response.FinancialTrendResponse;
+import com.graminbank.dto.response.FinancialTrendResponse.YearTrend;
+import com.graminbank.model.BankTotals;
+import com.graminbank.support.PostgresIntegrationTest;
+import com.graminbank.support.SettlementLedger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The trend must count interest the way the public summary (bank_totals) does.
+ */
+class TrendServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private TrendService trendService;
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private BankTotalsService bankTotalsService;
+
+    @Autowired
+    private MemberBalanceService memberBalanceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void interestMatchesBankTotalsAfterSettlement() {
+        new SettlementLedger(jdbcTemplate).load(40, 19L);
+        // Interest actually collected on the fixture's closed loans
+        jdbcTemplate.update("UPDATE loans SET interest_amount = ROUND(loan_amount * 0.05, 2) WHERE status = 'CLOSED'");
+        bankTotalsService.rebuild();
+        memberBalanceService.rebuild();
+        settlementService.settleFinancialYear();
+
+        // Carried-forward loans hold interest that was rolled into principal, not received
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(interest_amount) FROM loans WHERE status = 'CARRIED_FORWARD'", BigDecimal.class))
+                .isPositive();
+
+        trendService.refresh();
+        FinancialTrendResponse trend = trendService.getTrend();
+        BankTotals totals = bankTotalsService.getTotals();
+
+        BigDecimal loanInterest = trend.getYears().stream().map(YearTrend::getLoanInterest)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal depositInterest = trend.getYears().stream().map(YearTrend::getDepositInterest)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal netProfit = trend.getYears().stream().map(YearTrend::getNetProfit)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        assertThat(loanInterest).isPositive().isEqualByComparingTo(totals.getTotalLoanInterestReceived());
+        assertThat(depositInterest).isPositive().isEqualByComparingTo(totals.getTotalDepositInterestPaid());
+        assertThat(netProfit).isEqualByComparingTo(
+                totals.getTotalLoanInterestReceived().subtract(totals.getTotalDepositInterestPaid()));
+    }
+}
@@ -0,0 +1,125 @@
+package com.graminbank.support;
+
+import com.graminbank.util.FinancialYearPeriod;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Generated ledger for settlement tests, written straight to the tables.
+ */
+public class SettlementLedger {
+
+    private static final String INSERT_MEMBER =
+            "INSERT INTO members (id, first_name, last_name, joining_date, is_active, is_operator, " +
+            "is_blocked, failed_login_attempts, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, true, false, false, 0, now(), now())";
+    private static final String INSERT_DEPOSIT =
+            "INSERT INTO deposits (id, member_id, amount, deposit_date, interest_rate, financial_year, " +
+            "status, interest_earned, total_amount, return_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 2.5, ?, ?, 0, ?, ?, now(), now())";
+    private static final String INSERT_LOAN =
+            "INSERT INTO loans (id, member_id, loan_amount, loan_date, interest_rate, financial_year, " +
+            "status, interest_amount, total_repayment, paid_amount, remaining_amount, discount_amount, " +
+            "return_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 5.0, ?, ?, 0, 0, ?, ?, 0, ?, now(), now())";
+
+    // Members per insert batch; benchmark ledgers run to hundreds of thousands of rows
+    private static final int BATCH_MEMBERS = 2_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<Object[]> memberRows = new ArrayList<>();
+    private final List<Object[]> depositRows = new ArrayList<>();
+    private final List<Object[]> loanRows = new ArrayList<>();
+
+    public SettlementLedger(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * The same ledger for the same arguments: members with ACTIVE deposits and loans of the current
+     * year at random amounts and dates, part-paid loans, rows already closed and ACTIVE rows
+     * of the previous year, none of which settlement may touch.
+     * Replaces the whole ledger, so bank totals and member balances must be rebuilt after it.
+     */
+    public void load(int members, long seed) {
+        jdbcTemplate.execute("TRUNCATE members, financial_years, settlement_checkpoints, bank_totals, member_balances CASCADE");
+
+        SplittableRandom random = new SplittableRandom(seed);
+        FinancialYearPeriod period = FinancialYearPeriod.current();
+        LocalDate today = LocalDate.now();
+        int daysIntoYear = (int) ChronoUnit.DAYS.between(period.getStartDate(), today);
+
+        for (int m = 0; m < members; m++) {
+            UUID memberId = new UUID(1L, m);
+            memberRows.add(new Object[]{memberId, "Member", String.valueOf(m), Date.valueOf(period.getStartDate().minusYears(1))});
+
+            int deposits = random.nextInt(5);
+            for (int d = 0; d < deposits; d++) {
+                String status = random.nextInt(8) == 0 ? "RETURNED" : "ACTIVE";
+                insertDeposit(new UUID(2L, m * 10L + d), memberId, amount(random),
+                        period.getStartDate().plusDays(random.nextInt(daysIntoYear + 1)), period.getLabel(), status);
+            }
+            if (random.nextInt(6) == 0) {
+                insertDeposit(new UUID(2L, m * 10L + 9), memberId, amount(random),
+                        period.previous().getStartDate().plusDays(random.nextInt(365)), period.previous().getLabel(), "ACTIVE");
+            }
+
+            int loans = random.nextInt(4);
+            for (int l = 0; l < loans; l++) {
+                BigDecimal loanAmount = amount(random);
+                BigDecimal paid = random.nextBoolean()
+                        ? BigDecimal.ZERO
+                        : loanAmount.multiply(BigDecimal.valueOf(random.nextInt(100))).movePointLeft(2).setScale(2, RoundingMode.DOWN);
+                String status = random.nextInt(8) == 0 ? "CLOSED" : "ACTIVE";
+                insertLoan(new UUID(3L, m * 10L + l), memberId, loanAmount, paid,
+                        period.getStartDate().plusDays(random.nextInt(daysIntoYear + 1)), period.getLabel(), status);
+            }
+            if (random.nextInt(6) == 0) {
+                BigDecimal loanAmount = amount(random);
+                insertLoan(new UUID(3L, m * 10L + 9), memberId, loanAmount, BigDecimal.ZERO,
+                        period.previous().getStartDate().plusDays(random.nextInt(365)), period.previous().getLabel(), "ACTIVE");
+            }
+
+            if (memberRows.size() == BATCH_MEMBERS) {
+                flush();
+            }
+        }
+        flush();
+    }
+
+    // Members first, deposits and loans reference them
+    private void flush() {
+        jdbcTemplate.batchUpdate(INSERT_MEMBER, memberRows);
+        jdbcTemplate.batchUpdate(INSERT_DEPOSIT, depositRows);
+        jdbcTemplate.batchUpdate(INSERT_LOAN, loanRows);
+        memberRows.clear();
+        depositRows.clear();
+        loanRows.clear();
+    }
+
+    // 1.00 to 50,000.00 with random paise, so interest rounding hits both sides of every tie
+    private static BigDecimal amount(SplittableRandom random) {
+        return BigDecimal.valueOf(100 + random.nextLong(5_000_000), 2);
+    }
+
+    private void insertDeposit(UUID id, UUID memberId, BigDecimal amount, LocalDate depositDate,
+                               String financialYear, String status) {
+        depositRows.add(new Object[]{id, memberId, amount, Date.valueOf(depositDate), financialYear, status, amount,
+                "ACTIVE".equals(status) ? null : Date.valueOf(depositDate)});
+    }
+
+    private void insertLoan(UUID id, UUID memberId, BigDecimal loanAmount, BigDecimal paid, LocalDate loanDate,
+                            String financialYear, String status) {
+        loanRows.add(new Object[]{id, memberId, loanAmount, Date.valueOf(loanDate), financialYear, status, paid,
+                loanAmount.subtract(paid), "ACTIVE".equals(status) ? null : Date.valueOf(loanDate)});
+    }
+}
@@ -0,0 +1,129 @@
+package com.graminbank.util;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * BatchInterestCalculator must return, row for row, what FixedPointInterestCalculator returns,
+ * whether it runs sequentially or is split across a pool.
+ */
+class BatchInterestCalculatorTest {
+
+    private static final int END_EPOCH_DAY = 20_000;
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void matchesPerRowBelowTheSplitThreshold() {
+        assertMatchesPerRow(BatchInterestCalculator.PARALLEL_THRESHOLD - 1, 1L);
+    }
+
+    @Test
+    void matchesPerRowAboveTheSplitThreshold() {
+        // Odd size so the slices are uneven
+        assertMatchesPerRow(BatchInterestCalculator.PARALLEL_THRESHOLD * 5 + 17, 2L);
+    }
+
+    @Test
+    void matchesPerRowAtTheBounds() {
+        long[] principal = {BatchInterestCalculator.MAX_PRINCIPAL_PAISE, BatchInterestCalculator.MAX_PRINCIPAL_PAISE, 1L, 1L};
+        int[] start = {END_EPOCH_DAY - BatchInterestCalculator.MAX_SPAN_DAYS, END_EPOCH_DAY, END_EPOCH_DAY + 5, END_EPOCH_DAY - 1};
+        int[] rate = {BatchInterestCalculator.MAX_RATE_CENTI, BatchInterestCalculator.MAX_RATE_CENTI, 250, 1};
+
+        long[] interest = BatchInterestCalculator.computeInterest(principal, start, rate, END_EPOCH_DAY);
+
+        for (int i = 0; i < principal.length; i++) {
+            assertThat(interest[i]).as("row %d", i).isEqualTo(expected(principal[i], start[i], rate[i]));
+        }
+    }
+
+    @Test
+    void computesOnlyTheRequestedRange() {
+        long[] principal = {100_000, 200_000, 300_000, 400_000};
+        int[] start = {END_EPOCH_DAY - 45, END_EPOCH_DAY - 45, END_EPOCH_DAY - 45, END_EPOCH_DAY - 45};
+        int[] rate = {500, 500, 500, 500};
+        long[] interest = new long[4];
+
+        BatchInterestCalculator.computeInterest(principal, start, rate, END_EPOCH_DAY, interest, 1, 3);
+
+        assertThat(interest).containsExactly(0L, expected(200_000, start[1], 500), expected(300_000, start[2], 500), 0L);
+    }
+
+    @Test
+    void rejectsColumnsOfDifferentLengths() {
+        long[] principal = new long[10];
+        int[] start = new int[10];
+        int[] rate = new int[10];
+
+        assertThatThrownBy(() -> BatchInterestCalculator.computeInterest(principal, new int[9], rate, END_EPOCH_DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchInterestCalculator.computeInterest(principal, start, new int[11], END_EPOCH_DAY, pool))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchInterestCalculator.computeInterest(principal, start, rate, END_EPOCH_DAY, new long[9], 0, 9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsRangesOutsideTheColumns() {
+        long[] principal = new long[10];
+        int[] start = new int[10];
+        int[] rate = new int[10];
+        long[] interest = new long[10];
+
+        assertThatThrownBy(() -> BatchInterestCalculator.computeInterest(principal, start, rate, END_EPOCH_DAY, interest, -1, 5))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> BatchInterestCalculator.computeInterest(principal, start, rate, END_EPOCH_DAY, interest, 0, 11))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> BatchInterestCalculator.computeInterest(principal, start, rate, END_EPOCH_DAY, interest, 6, 5))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void emptyColumnsGiveNoInterest() {
+        assertThat(BatchInterestCalculator.computeInterest(new long[0], new int[0], new int[0], END_EPOCH_DAY, pool)).isEmpty();
+    }
+
+    private static void assertMatchesPerRow(int rows, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] principal = new long[rows];
+        int[] start = new int[rows];
+        int[] rate = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            principal[i] = random.nextLong(1, BatchInterestCalculator.MAX_PRINCIPAL_PAISE + 1);
+            // Includes start dates after the as-of date, which earn nothing
+            start[i] = END_EPOCH_DAY - random.nextInt(-60, BatchInterestCalculator.MAX_SPAN_DAYS + 1);
+            rate[i] = random.nextInt(1, BatchInterestCalculator.MAX_RATE_CENTI + 1);
+        }
+
+        long[] sequential = BatchInterestCalculator.computeInterest(principal, start, rate, END_EPOCH_DAY);
+        long[] pooled = BatchInterestCalculator.computeInterest(principal, start, rate, END_EPOCH_DAY, pool);
+
+        for (int i = 0; i < rows; i++) {
+            long expected = expected(principal[i], start[i], rate[i]);
+            assertThat(sequential[i]).as("sequential row %d", i).isEqualTo(expected);
+            assertThat(pooled[i]).as("pooled row %d", i).isEqualTo(expected);
+        }
+    }
+
+    private static long expected(long principalPaise, int startEpochDay, int rateCenti) {
+        return FixedPointInterestCalculator.interestPaise(principalPaise, rateCenti,
+                FixedPointInterestCalculator.months(startEpochDay, END_EPOCH_DAY));
+    }
+}
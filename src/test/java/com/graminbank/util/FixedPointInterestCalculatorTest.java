@@ -0,0 +1,139 @@
+package com.graminbank.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FixedPointInterestCalculator must return exactly what InterestCalculator returns,
+ * value and scale, for every input, including the inputs it hands back to the BigDecimal path.
+ */
+class FixedPointInterestCalculatorTest {
+
+    private static final List<LocalDate> START_DATES = List.of(
+            LocalDate.of(2023, 4, 1),
+            LocalDate.of(2024, 1, 31),
+            LocalDate.of(2024, 2, 29),
+            LocalDate.of(2024, 12, 31),
+            LocalDate.of(1999, 3, 31));
+
+    @AfterEach
+    void enable() {
+        FixedPointInterestCalculator.setEnabled(true);
+    }
+
+    @Test
+    void matchesForEveryPaisaAmountAndDaySpan() {
+        // Every principal from 0 to 25 rupees hits every HALF_UP tie for both rates
+        for (long paise = 0; paise <= 2_500; paise++) {
+            BigDecimal principal = BigDecimal.valueOf(paise, 2);
+            for (LocalDate start : START_DATES) {
+                for (int days = -3; days <= 400; days++) {
+                    assertSame(principal, start, start.plusDays(days));
+                }
+            }
+        }
+    }
+
+    @Test
+    void matchesForRandomAmountsAndDates() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 200_000; i++) {
+            BigDecimal principal = BigDecimal.valueOf(random.nextLong(-1_000_000_000L, 10_000_000_000L), random.nextInt(3));
+            LocalDate start = LocalDate.of(1990, 1, 1).plusDays(random.nextInt(20_000));
+            assertSame(principal, start, start.plusDays(random.nextInt(-30, 3_700)));
+        }
+    }
+
+    @Test
+    void matchesForScaleAndNotationVariants() {
+        List<BigDecimal> principals = List.of(
+                new BigDecimal("1E+3"), new BigDecimal("2.5E+1"), new BigDecimal("100.0"),
+                new BigDecimal("100.00"), new BigDecimal("0.01"), new BigDecimal("-0.05"),
+                new BigDecimal("99999999.99"), BigDecimal.ZERO, new BigDecimal("0.00"));
+        for (BigDecimal principal : principals) {
+            for (int days = -1; days <= 370; days++) {
+                assertSame(principal, START_DATES.get(0), START_DATES.get(0).plusDays(days));
+            }
+        }
+    }
+
+    @Test
+    void subPaisaAmountsFallBackToBigDecimal() {
+        List<BigDecimal> principals = List.of(
+                new BigDecimal("100.005"), new BigDecimal("0.001"), new BigDecimal("-12.3456"),
+                new BigDecimal("1234.50000001"));
+        for (BigDecimal principal : principals) {
+            assertThat(FixedPointInterestCalculator.toPaise(principal)).isEqualTo(Long.MIN_VALUE);
+            for (int days = 0; days <= 120; days++) {
+                assertSame(principal, START_DATES.get(1), START_DATES.get(1).plusDays(days));
+            }
+        }
+    }
+
+    @Test
+    void overflowingAmountsFallBackToBigDecimal() {
+        // Fits in paise, but paise * rate * months overflows a long
+        BigDecimal nearLimit = new BigDecimal("9999999999999999.99");
+        assertThat(FixedPointInterestCalculator.toPaise(nearLimit)).isNotEqualTo(Long.MIN_VALUE);
+        // Too many digits to be converted to paise at all
+        BigDecimal tooLarge = new BigDecimal("123456789012345678.00");
+        assertThat(FixedPointInterestCalculator.toPaise(tooLarge)).isEqualTo(Long.MIN_VALUE);
+
+        for (BigDecimal principal : List.of(nearLimit, nearLimit.negate(), tooLarge)) {
+            for (int days = 0; days <= 3_650; days += 7) {
+                assertSame(principal, START_DATES.get(0), START_DATES.get(0).plusDays(days));
+            }
+        }
+    }
+
+    @Test
+    void nullInputsMatch() {
+        LocalDate start = START_DATES.get(0);
+        assertSame(null, start, start.plusDays(40));
+        assertSame(BigDecimal.TEN, null, start);
+        assertSame(BigDecimal.TEN, start, null);
+    }
+
+    @Test
+    void disabledEngineDelegatesToBigDecimal() {
+        FixedPointInterestCalculator.setEnabled(false);
+        for (int days = -1; days <= 90; days++) {
+            assertSame(new BigDecimal("1500.75"), START_DATES.get(2), START_DATES.get(2).plusDays(days));
+        }
+    }
+
+    @Test
+    void monthsBucketLikeCeilingOfThirtyDays() {
+        for (long days = -40; days <= 10_000; days++) {
+            long expected = days <= 0 ? 0 : (long) Math.ceil(days / 30.0);
+            assertThat(FixedPointInterestCalculator.months(0, days)).as("days=%d", days).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void divideHalfUpRoundsTiesAwayFromZero() {
+        assertThat(FixedPointInterestCalculator.divideHalfUp(15_000, 10_000)).isEqualTo(2);
+        assertThat(FixedPointInterestCalculator.divideHalfUp(14_999, 10_000)).isEqualTo(1);
+        assertThat(FixedPointInterestCalculator.divideHalfUp(-15_000, 10_000)).isEqualTo(-2);
+        assertThat(FixedPointInterestCalculator.divideHalfUp(-14_999, 10_000)).isEqualTo(-1);
+        assertThat(FixedPointInterestCalculator.divideHalfUp(5_000, 10_000)).isEqualTo(1);
+        assertThat(FixedPointInterestCalculator.divideHalfUp(-5_000, 10_000)).isEqualTo(-1);
+    }
+
+    private static void assertSame(BigDecimal principal, LocalDate start, LocalDate end) {
+        // equals, not compareTo: the scale has to match too
+        assertThat(FixedPointInterestCalculator.calculateDepositInterest(principal, start, end))
+                .as("deposit %s %s..%s", principal, start, end)
+                .isEqualTo(InterestCalculator.calculateDepositInterest(principal, start, end));
+        assertThat(FixedPointInterestCalculator.calculateLoanInterest(principal, start, end))
+                .as("loan %s %s..%s", principal, start, end)
+                .isEqualTo(InterestCalculator.calculateLoanInterest(principal, start, end));
+    }
+}